@@ -0,0 +1,56 @@
+package com.compilit.results;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link MessageFormatter#formatMessage(String, Object...)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageFormatterBenchmark {
+
+  private String plainMessage = "Resource was not found";
+  private String singleArgumentMessage = "Resource %s was not found";
+  private String multipleArgumentMessage = "Resource %s of type %s was not found in %s";
+  private String numericMessage = "Resource %05d was not found";
+  private String invalidMessage = "Resource %s of type %s was not found";
+
+  @Benchmark
+  public String withoutArguments() {
+    return MessageFormatter.formatMessage(plainMessage);
+  }
+
+  @Benchmark
+  public String singleArgument() {
+    return MessageFormatter.formatMessage(singleArgumentMessage, "42");
+  }
+
+  @Benchmark
+  public String multipleArguments() {
+    return MessageFormatter.formatMessage(multipleArgumentMessage, "42", "user", "the database");
+  }
+
+  @Benchmark
+  public String nonStringConversion() {
+    return MessageFormatter.formatMessage(numericMessage, 42);
+  }
+
+  @Benchmark
+  public String missingArgument() {
+    return MessageFormatter.formatMessage(invalidMessage, "42");
+  }
+
+}
@@ -0,0 +1,81 @@
+package com.compilit.results;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding into and decoding from a reused buffer with {@link ResultCodec}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultCodecBenchmark {
+
+  private static final MessageCode MESSAGE_CODE = MessageCode.of("benchmark.codec", "Not found");
+
+  private final ResultCodec<String> codec = ResultCodec.of(ContentCodec.utf8());
+  private final Result<String> successResult = Result.success("contents of a successful result");
+  private final Result<String> notFoundResult = Result.notFound("Resource %s was not found", "42");
+  private final Result<String> messageCodeResult = Result.notFound(MESSAGE_CODE);
+  private final ByteBuffer buffer = ByteBuffer.allocate(256);
+  private ByteBuffer encodedSuccess;
+  private ByteBuffer encodedNotFound;
+  private ByteBuffer encodedMessageCode;
+
+  @Setup
+  public void setUp() {
+    encodedSuccess = codec.encode(successResult);
+    encodedNotFound = codec.encode(notFoundResult);
+    encodedMessageCode = codec.encode(messageCodeResult);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeSuccess() {
+    buffer.clear();
+    codec.encode(successResult, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer encodeNotFound() {
+    buffer.clear();
+    codec.encode(notFoundResult, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public ByteBuffer encodeMessageCode() {
+    buffer.clear();
+    codec.encode(messageCodeResult, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public Result<String> decodeSuccess() {
+    return codec.decode(encodedSuccess.duplicate());
+  }
+
+  @Benchmark
+  public Result<String> decodeNotFound() {
+    return codec.decode(encodedNotFound.duplicate());
+  }
+
+  @Benchmark
+  public Result<String> decodeMessageCode() {
+    return codec.decode(encodedMessageCode.duplicate());
+  }
+
+}
@@ -0,0 +1,76 @@
+package com.compilit.results;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link ResultToListCombiner} and {@link ContinuedResultToListCombiner} chains for a
+ * growing number of results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultCombinerBenchmark {
+
+  @Param({"2", "10", "1000", "100000"})
+  private int size;
+
+  private List<Result<Integer>> successResults;
+  private List<Result<Integer>> failedResults;
+
+  @Setup
+  public void setUp() {
+    successResults = new ArrayList<>(size);
+    failedResults = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      successResults.add(Result.success(index));
+      failedResults.add(index % 2 == 0
+              ? Result.success(index)
+              : Result.unprocessable("Value %s is odd", String.valueOf(index)));
+    }
+  }
+
+  @Benchmark
+  public Result<List<Integer>> merge_allSuccessful() {
+    return chain(successResults).merge();
+  }
+
+  @Benchmark
+  public Result<Integer> sum_allSuccessful() {
+    return chain(successResults).sum();
+  }
+
+  @Benchmark
+  public Result<List<Integer>> merge_halfFailed() {
+    return chain(failedResults).merge();
+  }
+
+  @Benchmark
+  public Result<Integer> sum_halfFailed() {
+    return chain(failedResults).sum();
+  }
+
+  private static ContinuedResultCombiner<Integer> chain(List<Result<Integer>> results) {
+    var combiner = Result.combine(results.get(0)).with(results.get(1));
+    for (int index = 2; index < results.size(); index++) {
+      combiner = combiner.and(results.get(index));
+    }
+    return combiner;
+  }
+
+}
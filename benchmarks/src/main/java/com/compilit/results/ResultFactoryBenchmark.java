@@ -0,0 +1,126 @@
+package com.compilit.results;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the static factories of {@link Result}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultFactoryBenchmark {
+
+  private static final String MESSAGE = "Resource %s was not found";
+  private static final String ARGUMENT = "42";
+  private static final MessageCode MESSAGE_CODE = MessageCode.of("benchmark.not-found", "Not found");
+
+  private final String contents = "contents";
+  private final Supplier<String> supplier = () -> contents;
+  private final Supplier<String> throwingSupplier = () -> {
+    throw new IllegalStateException("failure");
+  };
+  private final Runnable runnable = () -> { };
+  private final Predicate<String> predicate = value -> !value.isEmpty();
+  private final Result<String> successResult = Result.success(contents);
+  private final Result<String> notFoundResult = Result.notFound(MESSAGE, ARGUMENT);
+
+  @Benchmark
+  public Result<String> success() {
+    return Result.success();
+  }
+
+  @Benchmark
+  public Result<String> successWithContents() {
+    return Result.success(contents);
+  }
+
+  @Benchmark
+  public Result<String> notFound() {
+    return Result.notFound();
+  }
+
+  @Benchmark
+  public Result<String> notFoundWithMessage() {
+    return Result.notFound(MESSAGE, ARGUMENT);
+  }
+
+  @Benchmark
+  public Result<String> notFoundWithMessageCode() {
+    return Result.notFound(MESSAGE_CODE);
+  }
+
+  @Benchmark
+  public Result<String> unprocessable() {
+    return Result.unprocessable();
+  }
+
+  @Benchmark
+  public Result<String> unprocessableWithMessage() {
+    return Result.unprocessable(MESSAGE, ARGUMENT);
+  }
+
+  @Benchmark
+  public Result<String> unauthorized() {
+    return Result.unauthorized();
+  }
+
+  @Benchmark
+  public Result<String> unauthorizedWithMessage() {
+    return Result.unauthorized(MESSAGE, ARGUMENT);
+  }
+
+  @Benchmark
+  public Result<String> errorOccurredWithMessage() {
+    return Result.errorOccurred(MESSAGE, ARGUMENT);
+  }
+
+  @Benchmark
+  public Result<String> resultOfRunnable() {
+    return Result.resultOf(runnable);
+  }
+
+  @Benchmark
+  public Result<String> resultOfSupplier() {
+    return Result.resultOf(supplier);
+  }
+
+  @Benchmark
+  public Result<String> resultOfThrowingSupplier() {
+    return Result.resultOf(throwingSupplier);
+  }
+
+  @Benchmark
+  public Result<String> resultOfPredicate() {
+    return Result.resultOf(predicate, contents);
+  }
+
+  @Benchmark
+  public Result<Integer> fromResult() {
+    return Result.fromResult(notFoundResult);
+  }
+
+  @Benchmark
+  public Result<Integer> fromResultWithContent() {
+    return Result.fromResult(successResult, 42);
+  }
+
+  @Benchmark
+  public Result<Integer> fromResultWithMessage() {
+    return Result.fromResult(successResult, MESSAGE, ARGUMENT);
+  }
+
+}
@@ -0,0 +1,74 @@
+package com.compilit.results;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the predicates of {@link AbstractResult}, which are called on every resolved result.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultPredicateBenchmark {
+
+  private Result<String> filledResult = Result.success("contents");
+  private Result<String> emptyResult = Result.success();
+  private Result<String> failedResult = Result.unprocessable("failure");
+
+  @Benchmark
+  public boolean hasContents_filled() {
+    return filledResult.hasContents();
+  }
+
+  @Benchmark
+  public boolean hasContents_empty() {
+    return emptyResult.hasContents();
+  }
+
+  @Benchmark
+  public boolean isEmpty_filled() {
+    return filledResult.isEmpty();
+  }
+
+  @Benchmark
+  public boolean isEmpty_empty() {
+    return emptyResult.isEmpty();
+  }
+
+  @Benchmark
+  public boolean isUnsuccessful_failure() {
+    return failedResult.isUnsuccessful();
+  }
+
+  @Benchmark
+  public boolean isSuccessful_success() {
+    return filledResult.isSuccessful();
+  }
+
+  @Benchmark
+  public boolean isSuccessful_failure() {
+    return failedResult.isSuccessful();
+  }
+
+  @Benchmark
+  public boolean isSuccessfulWithContents_filled() {
+    return filledResult.isSuccessfulWithContents();
+  }
+
+  @Benchmark
+  public boolean isSuccessfulWithContents_empty() {
+    return emptyResult.isSuccessfulWithContents();
+  }
+
+}
@@ -6,39 +6,65 @@ abstract class AbstractResult<T> implements Result<T> {
 
   private final ResultStatus resultStatus;
   private final T contents;
-  private final String message;
+  private final String messageTemplate;
+  private final Object[] formatArguments;
+  private String message;
 
   AbstractResult(ResultStatus resultStatus) {
     this.resultStatus = resultStatus;
     this.contents = null;
+    this.messageTemplate = null;
+    this.formatArguments = null;
     this.message = Message.NOTHING_TO_REPORT;
   }
 
   AbstractResult(ResultStatus resultStatus, String message) {
     this.resultStatus = resultStatus;
     this.contents = null;
+    this.messageTemplate = null;
+    this.formatArguments = null;
     this.message = message;
   }
 
+  /**
+   * The message is only formatted on the first call to {@link #getMessage()}. The formatted message
+   * is cached afterwards. Formatting is idempotent, so concurrent first calls may both format, but
+   * always publish the same value. The arguments are copied, so changing the caller's array after
+   * creation does not change the message.
+   */
+  AbstractResult(ResultStatus resultStatus, String messageTemplate, Object[] formatArguments) {
+    this.resultStatus = resultStatus;
+    this.contents = null;
+    this.messageTemplate = messageTemplate;
+    this.formatArguments = formatArguments == null || formatArguments.length == 0
+            ? formatArguments
+            : formatArguments.clone();
+    if (messageTemplate == null || formatArguments == null || formatArguments.length == 0) {
+      this.message = MessageFormatter.formatMessage(messageTemplate);
+    }
+  }
+
   AbstractResult(ResultStatus resultStatus, T contents) {
     this.resultStatus = resultStatus;
     this.contents = contents;
+    this.messageTemplate = null;
+    this.formatArguments = null;
     this.message = Message.NOTHING_TO_REPORT;
   }
 
   @Override
   public boolean isSuccessful() {
-    return resultStatus.equals(ResultStatus.SUCCESS);
+    return resultStatus == ResultStatus.SUCCESS;
   }
 
   @Override
   public boolean isSuccessfulWithContents() {
-    return isSuccessful() && hasContents();
+    return resultStatus == ResultStatus.SUCCESS && contents != null;
   }
 
   @Override
   public boolean isUnsuccessful() {
-    return !isSuccessful();
+    return resultStatus != ResultStatus.SUCCESS;
   }
 
   @Override
@@ -58,16 +84,38 @@ abstract class AbstractResult<T> implements Result<T> {
 
   @Override
   public boolean hasContents() {
-    return getOptionalContents().isPresent();
+    return contents != null;
   }
 
   @Override
   public boolean isEmpty() {
-    return !hasContents();
+    return contents == null;
   }
 
   @Override
   public String getMessage() {
-    return message;
+    var renderedMessage = message;
+    if (renderedMessage == null) {
+      renderedMessage = renderMessage();
+      message = renderedMessage;
+    }
+    return renderedMessage;
+  }
+
+  @Override
+  public Throwable getCause() {
+    return null;
+  }
+
+  /**
+   * Renders a message that was not known when the result was created. Only called on the first
+   * call to {@link #getMessage()}, its outcome is cached.
+   *
+   * @return the message, or null if there is none.
+   */
+  protected String renderMessage() {
+    return messageTemplate == null
+            ? null
+            : MessageFormatter.formatMessage(messageTemplate, formatArguments);
   }
 }
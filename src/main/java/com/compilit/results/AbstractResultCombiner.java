@@ -1,31 +1,261 @@
 package com.compilit.results;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 class AbstractResultCombiner<T> {
 
-  protected final List<T> resultList = new ArrayList<>();
-  protected final List<String> messages = new ArrayList<>();
+  static final int DEFAULT_CAPACITY = 10;
+  private static final Object[] NO_CONTENTS = {};
+  private static final Result<?>[] NO_FAILURES = {};
+
+  protected final boolean isFailFast;
   protected boolean isSuccessful = true;
+  private final int[] statusCounts = new int[ResultStatus.values().length];
+  private ResultStatus firstFailureStatus;
+  private ResultStatus mostSevereStatus;
+  private Object[] contents;
+  private int size;
+  private Result<?>[] failures = NO_FAILURES;
+  private int failureCount;
+  private int omittedFailures;
+  private int messageLimit = Integer.MAX_VALUE;
+
+  AbstractResultCombiner() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  AbstractResultCombiner(int expectedSize) {
+    this(expectedSize, false);
+  }
 
-  AbstractResultCombiner() {}
+  /**
+   * @param expectedSize the expected number of results, used to presize the contents.
+   * @param isFailFast   if true, nothing is resolved anymore after the first unsuccessful result.
+   */
+  AbstractResultCombiner(int expectedSize, boolean isFailFast) {
+    this.contents = new Object[Math.max(expectedSize, 1)];
+    this.isFailFast = isFailFast;
+  }
 
-  AbstractResultCombiner(List<T> resultList, List<String> messages, boolean isSuccessful) {
-    this.resultList.addAll(resultList);
-    this.messages.addAll(messages);
-    this.isSuccessful = isSuccessful;
+  /**
+   * @return true if this is a fail-fast combiner that already resolved an unsuccessful result.
+   */
+  protected boolean hasFailedFast() {
+    return isFailFast && !isSuccessful;
   }
 
   protected void resolve(Result<T> result) {
-    if (result.hasContents()) {
-      resultList.add(result.getContents());
+    if (hasFailedFast()) {
+      return;
     }
+    var resultContents = result.getContents();
+    if (resultContents != null) {
+      acceptContents(resultContents);
+    }
+    var resultStatus = result.getResultStatus();
+    statusCounts[resultStatus.ordinal()]++;
+    ResultMetricsRegistry.resolved(resultStatus);
     if (result.isUnsuccessful()) {
       isSuccessful = false;
-      if (result.getMessage() != null) {
-        messages.add(result.getMessage());
+      if (firstFailureStatus == null) {
+        firstFailureStatus = resultStatus;
+      }
+      if (mostSevereStatus == null || resultStatus.compareTo(mostSevereStatus) > 0) {
+        mostSevereStatus = resultStatus;
+      }
+      addFailure(result);
+      if (isFailFast) {
+        discardContents();
+      }
+    }
+  }
+
+  protected void resolve(Supplier<? extends Result<T>> resultSupplier) {
+    if (!hasFailedFast()) {
+      resolve(resultSupplier.get());
+    }
+  }
+
+  protected void resolveAll(Iterable<? extends Result<T>> results) {
+    for (var result : results) {
+      if (hasFailedFast()) {
+        return;
       }
+      resolve(result);
+    }
+  }
+
+  protected void resolveAllSupplied(Iterable<? extends Supplier<? extends Result<T>>> resultSuppliers) {
+    for (var resultSupplier : resultSuppliers) {
+      if (hasFailedFast()) {
+        return;
+      }
+      resolve(resultSupplier.get());
+    }
+  }
+
+  /**
+   * Appends the state of another combiner to this one, as if its results were resolved after the
+   * results of this combiner. The stricter message limit of both combiners applies.
+   *
+   * @param other the combiner holding the subsequent results.
+   */
+  protected void absorb(AbstractResultCombiner<T> other) {
+    if (other.messageLimit < messageLimit) {
+      limitFailures(other.messageLimit);
+    }
+    absorbContents(other);
+    for (int index = 0; index < other.failureCount; index++) {
+      addFailure(other.failures[index]);
+    }
+    omittedFailures += other.omittedFailures;
+    isSuccessful &= other.isSuccessful;
+    for (int index = 0; index < statusCounts.length; index++) {
+      statusCounts[index] += other.statusCounts[index];
+    }
+    if (firstFailureStatus == null) {
+      firstFailureStatus = other.firstFailureStatus;
+    }
+    var otherMostSevereStatus = other.mostSevereStatus;
+    if (otherMostSevereStatus != null
+            && (mostSevereStatus == null || otherMostSevereStatus.compareTo(mostSevereStatus) > 0)) {
+      mostSevereStatus = otherMostSevereStatus;
+    }
+  }
+
+  /**
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return the status of the combination, SUCCESS if all resolved results were successful.
+   */
+  protected ResultStatus aggregatedStatus(AggregationPolicy aggregationPolicy) {
+    if (isSuccessful) {
+      return ResultStatus.SUCCESS;
+    }
+    switch (aggregationPolicy) {
+      case FIRST_FAILURE:
+        return firstFailureStatus;
+      case MOST_SEVERE:
+        return mostSevereStatus;
+      default:
+        return ResultStatus.UNPROCESSABLE;
+    }
+  }
+
+  /**
+   * @return the number of resolved results per status, including the statuses that did not occur.
+   */
+  protected Map<ResultStatus, Integer> statusCounts() {
+    var counts = new EnumMap<ResultStatus, Integer>(ResultStatus.class);
+    for (var resultStatus : ResultStatus.values()) {
+      counts.put(resultStatus, statusCounts[resultStatus.ordinal()]);
+    }
+    return Collections.unmodifiableMap(counts);
+  }
+
+  /**
+   * Limits the number of unsuccessful results that are kept for their message. Unsuccessful results
+   * beyond the limit are only counted.
+   *
+   * @param maxMessages the maximum number of messages to keep.
+   */
+  protected void limitFailures(int maxMessages) {
+    if (maxMessages < 0) {
+      throw new IllegalArgumentException("The message limit cannot be negative: " + maxMessages);
+    }
+    messageLimit = maxMessages;
+    if (failureCount > maxMessages) {
+      omittedFailures += failureCount - maxMessages;
+      failures = Arrays.copyOf(failures, maxMessages);
+      failureCount = maxMessages;
+    }
+  }
+
+  /**
+   * @param aggregationPolicy the policy which determines the status of the combination.
+   * @return an unsuccessful Result that renders the messages of the kept unsuccessful results lazily.
+   */
+  protected <R> Result<R> aggregatedFailure(AggregationPolicy aggregationPolicy) {
+    return new AggregatedResult<>(aggregatedStatus(aggregationPolicy),
+            new ResultList<>(failures, failureCount),
+            omittedFailures);
+  }
+
+  int contentsCount() {
+    return size;
+  }
+
+  /**
+   * @return an unmodifiable view on the contents resolved so far, without copying them.
+   */
+  protected List<T> contentsView() {
+    return new ResultList<>(contents, size);
+  }
+
+  /**
+   * Stores the contents of a resolved result. Subclasses that fold the contents instead of storing
+   * them override this method, together with {@link #absorbContents(AbstractResultCombiner)} and
+   * {@link #discardContents()}.
+   *
+   * @param value the contents of a resolved result, never null.
+   */
+  protected void acceptContents(T value) {
+    if (size == contents.length) {
+      contents = Arrays.copyOf(contents, size + (size >> 1) + 1);
+    }
+    contents[size++] = value;
+  }
+
+  /**
+   * Appends the stored contents of another combiner to the contents of this one.
+   *
+   * @param other the combiner holding the subsequent contents.
+   */
+  protected void absorbContents(AbstractResultCombiner<T> other) {
+    ensureCapacity(size + other.size);
+    System.arraycopy(other.contents, 0, contents, size, other.size);
+    size += other.size;
+  }
+
+  /**
+   * Passes the stored contents to the given consumer, in the order they were resolved.
+   *
+   * @param consumer the consumer of the contents.
+   */
+  @SuppressWarnings("unchecked")
+  protected void forEachContents(Consumer<? super T> consumer) {
+    for (int index = 0; index < size; index++) {
+      consumer.accept((T) contents[index]);
+    }
+  }
+
+  /**
+   * Drops all contents, called by a fail-fast combiner on the first unsuccessful result.
+   */
+  protected void discardContents() {
+    contents = NO_CONTENTS;
+    size = 0;
+  }
+
+  private void addFailure(Result<?> result) {
+    if (failureCount >= messageLimit) {
+      omittedFailures++;
+      return;
+    }
+    if (failureCount == failures.length) {
+      failures = Arrays.copyOf(failures, Math.max(failureCount + (failureCount >> 1), 4));
+    }
+    failures[failureCount++] = result;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > contents.length) {
+      contents = Arrays.copyOf(contents, Math.max(capacity, size + (size >> 1) + 1));
     }
   }
 }
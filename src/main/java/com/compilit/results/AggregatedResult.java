@@ -0,0 +1,58 @@
+package com.compilit.results;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The unsuccessful outcome of a combination. Keeps the unsuccessful results instead of their
+ * messages, so nothing is formatted or joined until a message is actually read.
+ */
+final class AggregatedResult<T> extends AbstractResult<T> {
+
+  private final List<? extends Result<?>> failures;
+  private final int omittedMessages;
+  private List<String> messages;
+
+  AggregatedResult(ResultStatus resultStatus, List<? extends Result<?>> failures, int omittedMessages) {
+    super(resultStatus, (String) null);
+    this.failures = failures;
+    this.omittedMessages = omittedMessages;
+  }
+
+  @Override
+  public List<String> getMessages() {
+    var result = messages;
+    if (result == null) {
+      var collectedMessages = new ArrayList<String>(failures.size());
+      for (var failure : failures) {
+        var message = failure.getMessage();
+        if (message != null) {
+          collectedMessages.add(message);
+        }
+      }
+      result = List.copyOf(collectedMessages);
+      messages = result;
+    }
+    return result;
+  }
+
+  @Override
+  protected String renderMessage() {
+    var separateMessages = getMessages();
+    var stringBuilder = new StringBuilder(Message.UNSUCCESSFUL_RESULT);
+    for (int index = 0; index < separateMessages.size(); index++) {
+      if (index > 0) {
+        stringBuilder.append(", ");
+      }
+      stringBuilder.append("message-").append(index + 1).append(": ").append(separateMessages.get(index));
+    }
+    if (omittedMessages > 0) {
+      if (!separateMessages.isEmpty()) {
+        stringBuilder.append(", ");
+      }
+      stringBuilder.append("...and ").append(omittedMessages).append(" more");
+    }
+    return stringBuilder.toString();
+  }
+
+}
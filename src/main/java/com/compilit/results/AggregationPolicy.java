@@ -0,0 +1,17 @@
+package com.compilit.results;
+
+public enum AggregationPolicy {
+  /**
+   * Every combination with at least one unsuccessful result is reported as UNPROCESSABLE.
+   */
+  UNPROCESSABLE,
+  /**
+   * A combination is reported with the status of the first unsuccessful result.
+   */
+  FIRST_FAILURE,
+  /**
+   * A combination is reported with the most severe status of all unsuccessful results. Severity
+   * follows the declaration order of {@link ResultStatus}, so ERROR_OCCURRED is the most severe.
+   */
+  MOST_SEVERE
+}
@@ -0,0 +1,185 @@
+package com.compilit.results;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A Result that is produced asynchronously. It never completes exceptionally: exceptions thrown
+ * while producing or transforming the Result are turned into an error occurred Result, just like
+ * {@link Result#resultOf(Supplier)} does.
+ *
+ * @param <T> the type of the contents of the eventual Result.
+ */
+public final class AsyncResult<T> {
+
+  private final CompletableFuture<Result<T>> future;
+
+  AsyncResult(CompletableFuture<Result<T>> future) {
+    this.future = future;
+  }
+
+  /**
+   * Runs the supplier on the common ForkJoinPool. For blocking I/O, use
+   * {@link #of(Supplier, Executor)} with a dedicated executor instead.
+   *
+   * @param supplier the content-supplying function.
+   * @param <T>      the type of the contents.
+   * @return AsyncResult which completes with a SuccessResult or an ErrorOccurredResult.
+   */
+  public static <T> AsyncResult<T> of(Supplier<T> supplier) {
+    return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.resultOf(supplier)));
+  }
+
+  /**
+   * @param supplier the content-supplying function.
+   * @param executor the executor to run the supplier on.
+   * @param <T>      the type of the contents.
+   * @return AsyncResult which completes with a SuccessResult or an ErrorOccurredResult.
+   */
+  public static <T> AsyncResult<T> of(Supplier<T> supplier, Executor executor) {
+    return new AsyncResult<>(
+            CompletableFuture.supplyAsync(() -> Result.resultOf(supplier), executor));
+  }
+
+  /**
+   * Adapts an existing asynchronous computation, for example a non-blocking remote call.
+   * Exceptional completion is turned into an ErrorOccurredResult with the exception as cause.
+   *
+   * @param completionStage the asynchronous computation.
+   * @param <T>             the type of the contents.
+   * @return AsyncResult which completes with a SuccessResult or an ErrorOccurredResult.
+   */
+  public static <T> AsyncResult<T> fromCompletionStage(CompletionStage<T> completionStage) {
+    return new AsyncResult<>(completionStage.toCompletableFuture().handle((contents, exception) ->
+            exception == null ? Result.success(contents) : Result.fromException(unwrap(exception))));
+  }
+
+  /**
+   * @param result the Result which is already available.
+   * @param <T>    the type of the contents.
+   * @return an already completed AsyncResult.
+   */
+  public static <T> AsyncResult<T> completed(Result<T> result) {
+    return new AsyncResult<>(CompletableFuture.completedFuture(result));
+  }
+
+  /**
+   * Combines the given AsyncResults without blocking. Each Result is collected as soon as it is
+   * available. The combination completes once all of them are available, and is then resolved in
+   * the order of the given collection, with the same outcome as
+   * {@link Result#combineAll(Collection)}.
+   *
+   * @param asyncResults the AsyncResults you wish to combine/merge/sum.
+   * @param <T>          the content type of the results.
+   * @return AsyncResultCombiner to merge/sum the results.
+   */
+  public static <T> AsyncResultCombiner<T> combineAll(
+          Collection<? extends AsyncResult<T>> asyncResults) {
+    return new AsyncResultToListCombiner<>(asyncResults);
+  }
+
+  /**
+   * Applies the mapper to the contents once this Result completes successfully. See
+   * {@link Result#map(Function)}. If the mapper throws an Exception, the new Result is an
+   * ErrorOccurredResult.
+   *
+   * @param mapper the function to apply to the contents.
+   * @param <R>    the content type of the new Result.
+   * @return AsyncResult of the mapped contents.
+   */
+  public <R> AsyncResult<R> map(Function<? super T, ? extends R> mapper) {
+    return new AsyncResult<>(future.thenApply(result -> mapResult(result, mapper)));
+  }
+
+  /**
+   * Same as {@link #map(Function)}, but the mapper runs on the given executor.
+   *
+   * @param mapper   the function to apply to the contents.
+   * @param executor the executor to run the mapper on.
+   * @param <R>      the content type of the new Result.
+   * @return AsyncResult of the mapped contents.
+   */
+  public <R> AsyncResult<R> map(Function<? super T, ? extends R> mapper, Executor executor) {
+    return new AsyncResult<>(future.thenApplyAsync(result -> mapResult(result, mapper), executor));
+  }
+
+  /**
+   * Starts the next asynchronous step once this Result completes successfully. An unsuccessful
+   * Result is passed on without calling the mapper. If the mapper throws an Exception or returns
+   * null, the new Result is an ErrorOccurredResult.
+   *
+   * @param mapper the function which starts the next step.
+   * @param <R>    the content type of the new Result.
+   * @return AsyncResult of the next step.
+   */
+  public <R> AsyncResult<R> flatMap(Function<? super T, ? extends AsyncResult<R>> mapper) {
+    return new AsyncResult<>(future.thenCompose(result -> {
+      if (result.isUnsuccessful()) {
+        return CompletableFuture.completedFuture(AsyncResult.<T, R>retyped(result));
+      }
+      try {
+        var next = mapper.apply(result.getContents());
+        if (next == null) {
+          return CompletableFuture.completedFuture(
+                  Result.<R>errorOccurred(Message.MAPPER_WITHOUT_RESULT));
+        }
+        return next.future();
+      } catch (Exception exception) {
+        return CompletableFuture.completedFuture(Result.<R>fromException(exception));
+      }
+    }));
+  }
+
+  /**
+   * @return a new CompletableFuture which completes with the Result. Completing it has no effect on
+   * this AsyncResult.
+   */
+  public CompletableFuture<Result<T>> toCompletableFuture() {
+    return future.copy();
+  }
+
+  /**
+   * Blocks until the Result is available.
+   *
+   * @return the Result.
+   */
+  public Result<T> join() {
+    return future.join();
+  }
+
+  CompletableFuture<Result<T>> future() {
+    return future;
+  }
+
+  private static <T, R> Result<R> mapResult(Result<T> result,
+                                            Function<? super T, ? extends R> mapper) {
+    return result.flatMap(contents -> Result.resultOf(() -> mapper.apply(contents)));
+  }
+
+  /**
+   * Unsuccessful results never have contents, so they can safely be used for any content type.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T, R> Result<R> retyped(Result<T> result) {
+    return (Result<R>) result;
+  }
+
+  /**
+   * @param exception the exception a dependent stage completed with.
+   * @return the exception that was thrown by the computation itself.
+   */
+  static Throwable unwrap(Throwable exception) {
+    if ((exception instanceof CompletionException || exception instanceof ExecutionException)
+            && exception.getCause() != null) {
+      return exception.getCause();
+    }
+    return exception;
+  }
+
+}
@@ -0,0 +1,37 @@
+package com.compilit.results;
+
+import java.util.List;
+
+public interface AsyncResultCombiner<T> {
+
+  /**
+   * Asynchronous variant of {@link ContinuedResultCombiner#merge()}.
+   *
+   * @return AsyncResult containing a List of T.
+   */
+  AsyncResult<List<T>> merge();
+
+  /**
+   * Asynchronous variant of {@link ContinuedResultCombiner#merge(AggregationPolicy)}.
+   *
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return AsyncResult containing a List of T.
+   */
+  AsyncResult<List<T>> merge(AggregationPolicy aggregationPolicy);
+
+  /**
+   * Asynchronous variant of {@link ContinuedResultCombiner#sum()}.
+   *
+   * @return AsyncResult of all others combined.
+   */
+  AsyncResult<T> sum();
+
+  /**
+   * Asynchronous variant of {@link ContinuedResultCombiner#sum(AggregationPolicy)}.
+   *
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return AsyncResult of all others combined.
+   */
+  AsyncResult<T> sum(AggregationPolicy aggregationPolicy);
+
+}
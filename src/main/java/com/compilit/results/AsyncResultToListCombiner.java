@@ -0,0 +1,58 @@
+package com.compilit.results;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class AsyncResultToListCombiner<T> implements AsyncResultCombiner<T> {
+
+  private final CompletableFuture<ContinuedResultToListCombiner<T>> combined =
+          new CompletableFuture<>();
+
+  AsyncResultToListCombiner(Collection<? extends AsyncResult<T>> asyncResults) {
+    @SuppressWarnings("unchecked")
+    var results = (Result<T>[]) new Result<?>[asyncResults.size()];
+    if (results.length == 0) {
+      combined.complete(new ContinuedResultToListCombiner<>(0));
+      return;
+    }
+    var remaining = new AtomicInteger(results.length);
+    var index = 0;
+    for (var asyncResult : asyncResults) {
+      var slot = index++;
+      asyncResult.future().whenComplete((result, exception) -> {
+        results[slot] = exception == null
+                ? result
+                : new ErrorOccurredResult<>(AsyncResult.unwrap(exception));
+        if (remaining.decrementAndGet() == 0) {
+          var combiner = new ContinuedResultToListCombiner<T>(results.length);
+          combiner.resolveAll(Arrays.asList(results));
+          combined.complete(combiner);
+        }
+      });
+    }
+  }
+
+  @Override
+  public AsyncResult<List<T>> merge() {
+    return new AsyncResult<>(combined.thenApply(ContinuedResultToListCombiner::merge));
+  }
+
+  @Override
+  public AsyncResult<List<T>> merge(AggregationPolicy aggregationPolicy) {
+    return new AsyncResult<>(combined.thenApply(combiner -> combiner.merge(aggregationPolicy)));
+  }
+
+  @Override
+  public AsyncResult<T> sum() {
+    return new AsyncResult<>(combined.thenApply(ContinuedResultToListCombiner::sum));
+  }
+
+  @Override
+  public AsyncResult<T> sum(AggregationPolicy aggregationPolicy) {
+    return new AsyncResult<>(combined.thenApply(combiner -> combiner.sum(aggregationPolicy)));
+  }
+
+}
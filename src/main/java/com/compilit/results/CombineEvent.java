@@ -0,0 +1,68 @@
+package com.compilit.results;
+
+import java.util.Map;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a combination of Results. The duration runs from the creation of the
+ * combiner up to the merge or sum, so it covers producing every combined Result. Disabled by
+ * default.
+ */
+@Name("com.compilit.results.Combine")
+@Label("Result Combination")
+@Description("Results were combined and merged or summed")
+@Category("Compilit Results")
+@Enabled(false)
+final class CombineEvent extends Event {
+
+  private static final EventType EVENT_TYPE = EventType.getEventType(CombineEvent.class);
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Status")
+  String resultStatus;
+
+  @Label("Message Length")
+  int messageLength;
+
+  @Label("Result Count")
+  int resultCount;
+
+  @Label("Failure Count")
+  int failureCount;
+
+  /**
+   * @return a started event, or null if the event is disabled, so a combiner doesn't hold on to an
+   * event that is never committed. Nothing is allocated when the event is disabled.
+   */
+  static CombineEvent beginIfEnabled() {
+    if (!EVENT_TYPE.isEnabled()) {
+      return null;
+    }
+    var event = new CombineEvent();
+    event.begin();
+    return event;
+  }
+
+  void record(String operation, Result<?> result, Map<ResultStatus, Integer> statusCounts) {
+    end();
+    if (shouldCommit()) {
+      this.operation = operation;
+      this.resultStatus = result.getResultStatus().name();
+      this.messageLength = result.getMessage().length();
+      for (var statusCount : statusCounts.values()) {
+        this.resultCount += statusCount;
+      }
+      this.failureCount = resultCount - statusCounts.get(ResultStatus.SUCCESS);
+      commit();
+    }
+  }
+
+}
@@ -0,0 +1,68 @@
+package com.compilit.results;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the contents of a successful Result for a {@link ResultCodec}. The codec is only called
+ * for contents that are not null.
+ *
+ * @param <T> the type of the contents.
+ */
+public interface ContentCodec<T> {
+
+  /**
+   * @param contents the contents to encode.
+   * @return the exact number of bytes {@link #encode(Object, ByteBuffer)} writes for the contents.
+   */
+  int encodedSize(T contents);
+
+  /**
+   * Writes the contents at the position of the buffer, and advances the position.
+   *
+   * @param contents the contents to encode.
+   * @param buffer   the buffer to write to, with at least {@link #encodedSize(Object)} bytes
+   *                 remaining.
+   */
+  void encode(T contents, ByteBuffer buffer);
+
+  /**
+   * Reads the contents at the position of the buffer, and advances the position past them.
+   *
+   * @param buffer the buffer to read from.
+   * @return the contents.
+   */
+  T decode(ByteBuffer buffer);
+
+  /**
+   * @return a codec for Strings, as length-prefixed UTF-8.
+   */
+  static ContentCodec<String> utf8() {
+    return ContentCodecs.UTF8;
+  }
+
+  /**
+   * @return a codec for Integers, as 4 bytes in the byte order of the buffer.
+   */
+  static ContentCodec<Integer> int32() {
+    return ContentCodecs.INT32;
+  }
+
+  /**
+   * @return a codec for Longs, as 8 bytes in the byte order of the buffer.
+   */
+  static ContentCodec<Long> int64() {
+    return ContentCodecs.INT64;
+  }
+
+  /**
+   * A codec for raw bytes, as a length-prefixed block. Decoding does not copy: the decoded contents
+   * are a read-only slice of the buffer that is decoded, so they are only valid as long as that
+   * buffer is not reused.
+   *
+   * @return a codec for ByteBuffers.
+   */
+  static ContentCodec<ByteBuffer> bytes() {
+    return ContentCodecs.BYTES;
+  }
+
+}
@@ -0,0 +1,88 @@
+package com.compilit.results;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+final class ContentCodecs {
+
+  static final ContentCodec<String> UTF8 = new ContentCodec<>() {
+    @Override
+    public int encodedSize(String contents) {
+      var length = WireFormat.utf8Length(contents);
+      return WireFormat.varIntSize(length) + length;
+    }
+
+    @Override
+    public void encode(String contents, ByteBuffer buffer) {
+      WireFormat.putUtf8(contents, buffer);
+    }
+
+    @Override
+    public String decode(ByteBuffer buffer) {
+      return WireFormat.getUtf8(buffer);
+    }
+  };
+
+  static final ContentCodec<Integer> INT32 = new ContentCodec<>() {
+    @Override
+    public int encodedSize(Integer contents) {
+      return Integer.BYTES;
+    }
+
+    @Override
+    public void encode(Integer contents, ByteBuffer buffer) {
+      buffer.putInt(contents);
+    }
+
+    @Override
+    public Integer decode(ByteBuffer buffer) {
+      return buffer.getInt();
+    }
+  };
+
+  static final ContentCodec<Long> INT64 = new ContentCodec<>() {
+    @Override
+    public int encodedSize(Long contents) {
+      return Long.BYTES;
+    }
+
+    @Override
+    public void encode(Long contents, ByteBuffer buffer) {
+      buffer.putLong(contents);
+    }
+
+    @Override
+    public Long decode(ByteBuffer buffer) {
+      return buffer.getLong();
+    }
+  };
+
+  static final ContentCodec<ByteBuffer> BYTES = new ContentCodec<>() {
+    @Override
+    public int encodedSize(ByteBuffer contents) {
+      return WireFormat.varIntSize(contents.remaining()) + contents.remaining();
+    }
+
+    @Override
+    public void encode(ByteBuffer contents, ByteBuffer buffer) {
+      WireFormat.putVarInt(contents.remaining(), buffer);
+      buffer.put(contents.duplicate());
+    }
+
+    @Override
+    public ByteBuffer decode(ByteBuffer buffer) {
+      var length = WireFormat.getVarInt(buffer);
+      if (length > buffer.remaining()) {
+        throw new BufferUnderflowException();
+      }
+      var slice = buffer.slice();
+      slice.limit(length);
+      buffer.position(buffer.position() + length);
+      return slice.asReadOnlyBuffer();
+    }
+  };
+
+  private ContentCodecs() {
+  }
+
+}
@@ -1,6 +1,11 @@
 package com.compilit.results;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 public interface ContinuedResultCombiner<T> {
 
@@ -10,16 +15,91 @@ public interface ContinuedResultCombiner<T> {
    */
   ContinuedResultCombiner<T> and(Result<T> result);
 
+  /**
+   * Lazy variant of {@link #and(Result)}. A fail-fast combiner does not call the supplier if an
+   * unsuccessful result was already combined.
+   *
+   * @param resultSupplier supplies the next result you wish to combine with the previous.
+   * @return ResultCombiner to chain the next result.
+   */
+  default ContinuedResultCombiner<T> and(Supplier<? extends Result<T>> resultSupplier) {
+    return and(resultSupplier.get());
+  }
+
+  /**
+   * Limits the number of messages that are kept for a combined unsuccessful result. The messages of
+   * any further unsuccessful results are dropped and only counted, and the combined message ends
+   * with "...and N more". There is no limit by default. The default implementation keeps every
+   * message.
+   *
+   * @param maxMessages the maximum number of messages to keep.
+   * @return ResultCombiner to chain the next result.
+   */
+  default ContinuedResultCombiner<T> limitMessages(int maxMessages) {
+    return this;
+  }
+
+  /**
+   * Continues the combination by folding the contents into a single value instead of collecting
+   * them in a List. Contents of results combined so far are folded right away, contents of results
+   * combined afterwards are folded as they are combined, so no List is ever built. The default
+   * implementation folds the List of {@link #merge()} instead.
+   *
+   * @param identity    the initial value.
+   * @param accumulator the function which folds the next contents into the value.
+   * @param <R>         the type of the value.
+   * @return ReducingResultCombiner to chain the next result.
+   */
+  default <R> ReducingResultCombiner<T, R> reduce(R identity, BiFunction<R, ? super T, R> accumulator) {
+    return new MergedReducingResultCombiner<>(this, contents -> {
+      var value = identity;
+      for (T element : contents) {
+        value = accumulator.apply(value, element);
+      }
+      return value;
+    });
+  }
+
+  /**
+   * Same as {@link #reduce(Object, BiFunction)}, but the contents are folded by a Collector. The
+   * container of a Collector is mutable and its finisher may return it as is, so the contents are
+   * kept and collected into a new container on every merge. A merged Result therefore never changes
+   * when more results are combined.
+   *
+   * @param collector the Collector which folds the contents.
+   * @param <A>       the mutable accumulation type of the Collector.
+   * @param <R>       the result type of the Collector.
+   * @return ReducingResultCombiner to chain the next result.
+   */
+  default <A, R> ReducingResultCombiner<T, R> collect(Collector<? super T, A, R> collector) {
+    return new MergedReducingResultCombiner<>(this, contents -> contents.stream().collect(collector));
+  }
+
   /**
    * Get a list of all contents of the passed results if all results were successful. Returns a
    * SuccessResult if, and only if all other results were successful.
    * In case of a summed up unsuccessful result, the message will contain the error message
-   * of each underlying unsuccessful result
+   * of each underlying unsuccessful result. The message is only joined on the first call to
+   * {@link Result#getMessage()}, {@link Result#getMessages()} gives the separate messages.
+   * The returned List is unmodifiable and is not affected by results combined after calling this
+   * method.
    *
    * @return Result containing a List of T.
    */
   Result<List<T>> merge();
 
+  /**
+   * Same as {@link #merge()}, but an unsuccessful combination gets the status determined by the
+   * given policy instead of always being UNPROCESSABLE. The default implementation ignores the
+   * policy and returns {@link #merge()}.
+   *
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return Result containing a List of T.
+   */
+  default Result<List<T>> merge(AggregationPolicy aggregationPolicy) {
+    return merge();
+  }
+
   /**
    * Get the combined result without contents of all passed results. Returns a SuccessResult if, and
    * only if all other results were successful.
@@ -30,4 +110,27 @@ public interface ContinuedResultCombiner<T> {
    */
   Result<T> sum();
 
+  /**
+   * Same as {@link #sum()}, but an unsuccessful combination gets the status determined by the given
+   * policy instead of always being UNPROCESSABLE. The default implementation ignores the policy and
+   * returns {@link #sum()}.
+   *
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return Result of all others combined.
+   */
+  default Result<T> sum(AggregationPolicy aggregationPolicy) {
+    return sum();
+  }
+
+  /**
+   * Get the number of combined results per status. The counts are kept while combining, so this
+   * does not go over the results again. A fail-fast combiner stops counting after the first
+   * unsuccessful result. The default implementation does not count and returns an empty Map.
+   *
+   * @return an unmodifiable Map containing a count for every ResultStatus.
+   */
+  default Map<ResultStatus, Integer> getStatusCounts() {
+    return Collections.emptyMap();
+  }
+
 }
@@ -1,11 +1,24 @@
 package com.compilit.results;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 final class ContinuedResultToListCombiner<T> extends AbstractResultCombiner<T> implements ContinuedResultCombiner<T> {
 
-  ContinuedResultToListCombiner(List<T> resultList, List<String> messages, boolean isSuccessful) {
-    super(resultList, messages, isSuccessful);
+  private CombineEvent combineEvent = ResultEvents.beginCombine();
+
+  ContinuedResultToListCombiner() {
+    super();
+  }
+
+  ContinuedResultToListCombiner(int expectedSize) {
+    super(expectedSize);
+  }
+
+  ContinuedResultToListCombiner(int expectedSize, boolean isFailFast) {
+    super(expectedSize, isFailFast);
   }
 
   @Override
@@ -14,31 +27,63 @@ final class ContinuedResultToListCombiner<T> extends AbstractResultCombiner<T> i
     return this;
   }
 
+  @Override
+  public ContinuedResultCombiner<T> and(Supplier<? extends Result<T>> resultSupplier) {
+    resolve(resultSupplier);
+    return this;
+  }
+
+  @Override
+  public ContinuedResultCombiner<T> limitMessages(int maxMessages) {
+    limitFailures(maxMessages);
+    return this;
+  }
+
+  @Override
+  public <R> ReducingResultCombiner<T, R> reduce(R identity, BiFunction<R, ? super T, R> accumulator) {
+    return new ResultToFoldedValueCombiner<>(this, identity, accumulator);
+  }
+
+  @Override
   public Result<List<T>> merge() {
-    var finalMessage = prepareMessage();
-    return isSuccessful
-            ? Result.success(resultList)
-            : Result.unprocessable(finalMessage);
+    return merge(AggregationPolicy.UNPROCESSABLE);
   }
 
+  @Override
+  public Result<List<T>> merge(AggregationPolicy aggregationPolicy) {
+    Result<List<T>> result = isSuccessful
+            ? new SuccessResult<>(contentsView())
+            : aggregatedFailure(aggregationPolicy);
+    return recorded(ResultEvents.MERGE, result);
+  }
+
+  @Override
   public Result<T> sum() {
-    var finalMessage = prepareMessage();
-    return isSuccessful
-            ? Result.success()
-            : Result.unprocessable(finalMessage);
-  }
-
-  private String prepareMessage() {
-    var stringBuilder = new StringBuilder(Message.UNSUCCESSFUL_RESULT);
-    for (int index = 0; index < messages.size(); index++) {
-      var message = messages.get(index);
-      stringBuilder.append("message-").append(index + 1).append(": ").append(message);
-      if (index == messages.size() - 1) {
-        return stringBuilder.toString();
-      }
-      stringBuilder.append(", ");
+    return sum(AggregationPolicy.UNPROCESSABLE);
+  }
+
+  @Override
+  public Result<T> sum(AggregationPolicy aggregationPolicy) {
+    Result<T> result = isSuccessful
+            ? SuccessResult.<T>empty()
+            : aggregatedFailure(aggregationPolicy);
+    return recorded(ResultEvents.SUM, result);
+  }
+
+  @Override
+  public Map<ResultStatus, Integer> getStatusCounts() {
+    return statusCounts();
+  }
+
+  /**
+   * Commits the combine event, if it is enabled. Only the first merge or sum is recorded.
+   */
+  private <R> Result<R> recorded(String operation, Result<R> result) {
+    if (combineEvent != null) {
+      ResultEvents.combined(combineEvent, operation, result, statusCounts());
+      combineEvent = null;
     }
-    return stringBuilder.toString();
+    return result;
   }
 
 }
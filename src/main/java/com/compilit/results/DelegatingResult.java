@@ -0,0 +1,114 @@
+package com.compilit.results;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A Result that passes every call on to another Result.
+ */
+abstract class DelegatingResult<T> implements Result<T> {
+
+  /**
+   * @return the Result to pass every call on to.
+   */
+  protected abstract Result<T> delegate();
+
+  @Override
+  public ResultStatus getResultStatus() {
+    return delegate().getResultStatus();
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return delegate().isSuccessful();
+  }
+
+  @Override
+  public boolean isSuccessfulWithContents() {
+    return delegate().isSuccessfulWithContents();
+  }
+
+  @Override
+  public boolean isUnsuccessful() {
+    return delegate().isUnsuccessful();
+  }
+
+  @Override
+  public boolean hasContents() {
+    return delegate().hasContents();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return delegate().isEmpty();
+  }
+
+  @Override
+  public T getContents() {
+    return delegate().getContents();
+  }
+
+  @Override
+  public Optional<T> getOptionalContents() {
+    return delegate().getOptionalContents();
+  }
+
+  @Override
+  public String getMessage() {
+    return delegate().getMessage();
+  }
+
+  @Override
+  public List<String> getMessages() {
+    return delegate().getMessages();
+  }
+
+  @Override
+  public Throwable getCause() {
+    return delegate().getCause();
+  }
+
+  @Override
+  public List<Result<T>> getAttempts() {
+    return delegate().getAttempts();
+  }
+
+  @Override
+  public <R> Result<R> map(Function<? super T, ? extends R> mapper) {
+    return delegate().map(mapper);
+  }
+
+  @Override
+  public <R> Result<R> flatMap(Function<? super T, ? extends Result<R>> mapper) {
+    return delegate().flatMap(mapper);
+  }
+
+  @Override
+  public Result<T> filter(Predicate<? super T> predicate) {
+    return delegate().filter(predicate);
+  }
+
+  @Override
+  public Result<T> filter(Predicate<? super T> predicate, String message, String... formatArguments) {
+    return delegate().filter(predicate, message, formatArguments);
+  }
+
+  @Override
+  public Result<T> recover(Function<? super Result<T>, ? extends T> recovery) {
+    return delegate().recover(recovery);
+  }
+
+  @Override
+  public Result<T> recoverWith(Function<? super Result<T>, ? extends Result<T>> recovery) {
+    return delegate().recoverWith(recovery);
+  }
+
+  @Override
+  public <R> R fold(Function<? super T, ? extends R> onSuccess,
+                    Function<? super Result<T>, ? extends R> onFailure) {
+    return delegate().fold(onSuccess, onFailure);
+  }
+
+}
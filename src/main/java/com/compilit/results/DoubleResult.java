@@ -0,0 +1,233 @@
+package com.compilit.results;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A Result specialized for double contents. A successful DoubleResult holds the unboxed value, an
+ * unsuccessful one wraps the unsuccessful {@link Result} it was created from, so messages are still
+ * formatted lazily and the no-argument failures are shared instances.
+ */
+public final class DoubleResult {
+
+  private static final DoubleResult NOT_FOUND = new DoubleResult(0.0, Result.notFound());
+  private static final DoubleResult UNPROCESSABLE = new DoubleResult(0.0, Result.unprocessable());
+  private static final DoubleResult UNAUTHORIZED = new DoubleResult(0.0, Result.unauthorized());
+
+  private final double value;
+  private final Result<?> failure;
+
+  private DoubleResult(double value, Result<?> failure) {
+    this.value = value;
+    this.failure = failure;
+  }
+
+  /**
+   * @param value the value.
+   * @return a successful DoubleResult holding the value.
+   */
+  public static DoubleResult success(double value) {
+    return new DoubleResult(value, null);
+  }
+
+  /**
+   * @return a shared not found DoubleResult with the default message.
+   */
+  public static DoubleResult notFound() {
+    return NOT_FOUND;
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return a not found DoubleResult.
+   */
+  public static DoubleResult notFound(String message, String... formatArguments) {
+    return new DoubleResult(0.0, Result.notFound(message, formatArguments));
+  }
+
+  /**
+   * @return a shared unprocessable DoubleResult with the default message.
+   */
+  public static DoubleResult unprocessable() {
+    return UNPROCESSABLE;
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return an unprocessable DoubleResult.
+   */
+  public static DoubleResult unprocessable(String message, String... formatArguments) {
+    return new DoubleResult(0.0, Result.unprocessable(message, formatArguments));
+  }
+
+  /**
+   * @return a shared unauthorized DoubleResult with the default message.
+   */
+  public static DoubleResult unauthorized() {
+    return UNAUTHORIZED;
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return an unauthorized DoubleResult.
+   */
+  public static DoubleResult unauthorized(String message, String... formatArguments) {
+    return new DoubleResult(0.0, Result.unauthorized(message, formatArguments));
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return an error occurred DoubleResult.
+   */
+  public static DoubleResult errorOccurred(String message, String... formatArguments) {
+    return new DoubleResult(0.0, Result.errorOccurred(message, formatArguments));
+  }
+
+  /**
+   * @param exception the exception which caused the failure.
+   * @return an error occurred DoubleResult with the exception message and the exception as cause.
+   */
+  public static DoubleResult fromException(Throwable exception) {
+    return new DoubleResult(0.0, Result.fromException(exception));
+  }
+
+  /**
+   * Adapts an unsuccessful Result of any content type, retaining its status, messages and cause.
+   *
+   * @param result the unsuccessful Result.
+   * @return an unsuccessful DoubleResult.
+   * @throws IllegalArgumentException if the Result is successful, as it has no double value.
+   */
+  public static DoubleResult fromResult(Result<?> result) {
+    if (result.isSuccessful()) {
+      throw new IllegalArgumentException("Only an unsuccessful Result can be adapted without a value");
+    }
+    return new DoubleResult(0.0, result);
+  }
+
+  /**
+   * @param supplier the value-supplying function.
+   * @return a successful DoubleResult with the supplied value, or an error occurred DoubleResult if the
+   * supplier throws an Exception.
+   */
+  public static DoubleResult resultOf(DoubleSupplier supplier) {
+    try {
+      return success(supplier.getAsDouble());
+    } catch (Exception exception) {
+      return fromException(exception);
+    }
+  }
+
+  /**
+   * @param results the DoubleResults you wish to combine.
+   * @return DoubleResultCombiner to merge or total the results.
+   */
+  public static DoubleResultCombiner combineAll(DoubleResult... results) {
+    var combiner = new DoubleResultToArrayCombiner(results.length);
+    for (var result : results) {
+      combiner.and(result);
+    }
+    return combiner;
+  }
+
+  /**
+   * @param results the DoubleResults you wish to combine.
+   * @return DoubleResultCombiner to merge or total the results.
+   */
+  public static DoubleResultCombiner combineAll(Iterable<DoubleResult> results) {
+    var combiner = new DoubleResultToArrayCombiner(AbstractResultCombiner.DEFAULT_CAPACITY);
+    for (var result : results) {
+      combiner.and(result);
+    }
+    return combiner;
+  }
+
+  public ResultStatus getResultStatus() {
+    return failure == null ? ResultStatus.SUCCESS : failure.getResultStatus();
+  }
+
+  public boolean isSuccessful() {
+    return failure == null;
+  }
+
+  public boolean isUnsuccessful() {
+    return failure != null;
+  }
+
+  /**
+   * @return the value.
+   * @throws NoSuchElementException if this DoubleResult is unsuccessful.
+   */
+  public double getAsDouble() {
+    if (failure != null) {
+      throw new NoSuchElementException("An unsuccessful Result has no value");
+    }
+    return value;
+  }
+
+  /**
+   * @param other the value to return if this DoubleResult is unsuccessful.
+   * @return the value, or the other value if this DoubleResult is unsuccessful.
+   */
+  public double orElse(double other) {
+    return failure == null ? value : other;
+  }
+
+  public String getMessage() {
+    return failure == null ? Message.NOTHING_TO_REPORT : failure.getMessage();
+  }
+
+  /**
+   * See {@link Result#getMessages()}.
+   *
+   * @return the separate messages.
+   */
+  public List<String> getMessages() {
+    return failure == null ? List.of(Message.NOTHING_TO_REPORT) : failure.getMessages();
+  }
+
+  /**
+   * @return the exception which caused this DoubleResult, or null.
+   */
+  public Throwable getCause() {
+    return failure == null ? null : failure.getCause();
+  }
+
+  /**
+   * @param mapper the function to apply to the value.
+   * @return DoubleResult of the mapped value, or this DoubleResult if it is unsuccessful.
+   */
+  public DoubleResult map(DoubleUnaryOperator mapper) {
+    return failure == null ? success(mapper.applyAsDouble(value)) : this;
+  }
+
+  /**
+   * Bridges to a regular Result.
+   *
+   * @param mapper the function to apply to the value.
+   * @param <R>    the content type of the new Result.
+   * @return Result of the mapped value, or an unsuccessful Result with the same status and message.
+   */
+  public <R> Result<R> mapToObj(DoubleFunction<? extends R> mapper) {
+    return failure == null ? new SuccessResult<>(mapper.apply(value)) : failure.map(contents -> null);
+  }
+
+  /**
+   * @return a regular Result holding the boxed value.
+   */
+  public Result<Double> boxed() {
+    return mapToObj(Double::valueOf);
+  }
+
+  Result<?> failure() {
+    return failure;
+  }
+
+}
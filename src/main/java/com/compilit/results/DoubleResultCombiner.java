@@ -0,0 +1,54 @@
+package com.compilit.results;
+
+import java.util.Map;
+
+public interface DoubleResultCombiner {
+
+  /**
+   * @param result the next result you wish to combine with the previous.
+   * @return DoubleResultCombiner to chain the next result.
+   */
+  DoubleResultCombiner and(DoubleResult result);
+
+  /**
+   * Get all values of the passed results if all results were successful. In case of an unsuccessful
+   * result, the message will contain the error message of each underlying unsuccessful result.
+   *
+   * @return Result containing the values, in the order they were combined.
+   */
+  Result<double[]> merge();
+
+  /**
+   * Same as {@link #merge()}, but an unsuccessful combination gets the status determined by the
+   * given policy instead of always being UNPROCESSABLE.
+   *
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return Result containing the values, in the order they were combined.
+   */
+  Result<double[]> merge(AggregationPolicy aggregationPolicy);
+
+  /**
+   * Adds up the values of the passed results if all results were successful, without boxing them.
+   * The total is computed with compensated summation, like {@link java.util.stream.DoubleStream#sum()}.
+   *
+   * @return DoubleResult containing the total.
+   */
+  DoubleResult total();
+
+  /**
+   * Same as {@link #total()}, but an unsuccessful combination gets the status determined by the
+   * given policy instead of always being UNPROCESSABLE.
+   *
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return DoubleResult containing the total.
+   */
+  DoubleResult total(AggregationPolicy aggregationPolicy);
+
+  /**
+   * See {@link ContinuedResultCombiner#getStatusCounts()}.
+   *
+   * @return an unmodifiable Map containing a count for every ResultStatus.
+   */
+  Map<ResultStatus, Integer> getStatusCounts();
+
+}
@@ -0,0 +1,67 @@
+package com.compilit.results;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Stores the values of the combined DoubleResults in a double[], and leaves status counting and message
+ * aggregation to {@link AbstractResultCombiner}, which only ever sees the shared success Result and
+ * the wrapped unsuccessful Results.
+ */
+final class DoubleResultToArrayCombiner extends AbstractResultCombiner<Object>
+        implements DoubleResultCombiner {
+
+  private double[] values;
+  private int size;
+
+  DoubleResultToArrayCombiner(int expectedSize) {
+    super(0);
+    this.values = new double[Math.max(expectedSize, 1)];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public DoubleResultCombiner and(DoubleResult result) {
+    if (result.isSuccessful()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size + (size >> 1) + 1);
+      }
+      values[size++] = result.getAsDouble();
+      resolve(SuccessResult.empty());
+    } else {
+      resolve((Result<Object>) result.failure());
+    }
+    return this;
+  }
+
+  @Override
+  public Result<double[]> merge() {
+    return merge(AggregationPolicy.UNPROCESSABLE);
+  }
+
+  @Override
+  public Result<double[]> merge(AggregationPolicy aggregationPolicy) {
+    return isSuccessful
+            ? new SuccessResult<>(Arrays.copyOf(values, size))
+            : aggregatedFailure(aggregationPolicy);
+  }
+
+  @Override
+  public DoubleResult total() {
+    return total(AggregationPolicy.UNPROCESSABLE);
+  }
+
+  @Override
+  public DoubleResult total(AggregationPolicy aggregationPolicy) {
+    if (!isSuccessful) {
+      return DoubleResult.fromResult(aggregatedFailure(aggregationPolicy));
+    }
+    return DoubleResult.success(Arrays.stream(values, 0, size).sum());
+  }
+
+  @Override
+  public Map<ResultStatus, Integer> getStatusCounts() {
+    return statusCounts();
+  }
+
+}
@@ -0,0 +1,36 @@
+package com.compilit.results;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for the creation of an error occurred Result. Disabled by default. When it
+ * is enabled, the message of the Result is formatted right away to record its length.
+ */
+@Name("com.compilit.results.ErrorOccurred")
+@Label("Error Occurred Result")
+@Description("An error occurred Result was created")
+@Category("Compilit Results")
+@Enabled(false)
+final class ErrorOccurredEvent extends Event {
+
+  @Label("Message Length")
+  int messageLength;
+
+  @Label("Exception Type")
+  Class<?> exceptionType;
+
+  static void emit(Result<?> result, Throwable cause) {
+    var event = new ErrorOccurredEvent();
+    if (event.shouldCommit()) {
+      event.messageLength = result.getMessage().length();
+      event.exceptionType = cause == null ? null : cause.getClass();
+      event.commit();
+    }
+  }
+
+}
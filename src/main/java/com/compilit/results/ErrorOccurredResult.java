@@ -2,8 +2,47 @@ package com.compilit.results;
 
 class ErrorOccurredResult<T> extends AbstractResult<T> {
 
+  private static final ErrorOccurredResult<?> EMPTY = new ErrorOccurredResult<>();
+
+  private final Throwable cause;
+
+  ErrorOccurredResult() {
+    super(ResultStatus.ERROR_OCCURRED);
+    this.cause = null;
+  }
+
   ErrorOccurredResult(String message) {
     super(ResultStatus.ERROR_OCCURRED, message);
+    this.cause = null;
+    ResultEvents.errorOccurred(this, null);
+  }
+
+  ErrorOccurredResult(String message, Throwable cause) {
+    super(ResultStatus.ERROR_OCCURRED, message);
+    this.cause = cause;
+    ResultEvents.errorOccurred(this, cause);
+  }
+
+  ErrorOccurredResult(String message, Object[] formatArguments) {
+    super(ResultStatus.ERROR_OCCURRED, message, formatArguments);
+    this.cause = null;
+    ResultEvents.errorOccurred(this, null);
+  }
+
+  ErrorOccurredResult(Throwable cause) {
+    super(ResultStatus.ERROR_OCCURRED, cause.getMessage(), null);
+    this.cause = cause;
+    ResultEvents.errorOccurred(this, cause);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> ErrorOccurredResult<T> empty() {
+    return (ErrorOccurredResult<T>) EMPTY;
+  }
+
+  @Override
+  public Throwable getCause() {
+    return cause;
   }
 
 }
@@ -0,0 +1,109 @@
+package com.compilit.results;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps counts and timings per status in {@link LongAdder}s, so concurrent factories and combiners
+ * don't contend on a shared counter.
+ */
+public final class InMemoryResultMetrics implements ResultMetrics {
+
+  private static final ResultStatus[] STATUSES = ResultStatus.values();
+
+  private final LongAdder[] created = newAdders();
+  private final LongAdder[] resolved = newAdders();
+  private final LongAdder[] timed = newAdders();
+  private final LongAdder[] timedNanos = newAdders();
+
+  InMemoryResultMetrics() {
+  }
+
+  @Override
+  public void recordCreated(ResultStatus resultStatus) {
+    created[resultStatus.ordinal()].increment();
+  }
+
+  @Override
+  public void recordResolved(ResultStatus resultStatus) {
+    resolved[resultStatus.ordinal()].increment();
+  }
+
+  @Override
+  public void recordDuration(ResultStatus resultStatus, long durationNanos) {
+    timed[resultStatus.ordinal()].increment();
+    timedNanos[resultStatus.ordinal()].add(durationNanos);
+  }
+
+  public long getCreatedCount(ResultStatus resultStatus) {
+    return created[resultStatus.ordinal()].sum();
+  }
+
+  public long getResolvedCount(ResultStatus resultStatus) {
+    return resolved[resultStatus.ordinal()].sum();
+  }
+
+  /**
+   * @param resultStatus the status of the Results produced by wrapped processes.
+   * @return the number of timed processes that produced a Result with the status.
+   */
+  public long getTimedCount(ResultStatus resultStatus) {
+    return timed[resultStatus.ordinal()].sum();
+  }
+
+  /**
+   * @param resultStatus the status of the Results produced by wrapped processes.
+   * @return the total time spent in processes that produced a Result with the status, in
+   * nanoseconds.
+   */
+  public long getTimedNanos(ResultStatus resultStatus) {
+    return timedNanos[resultStatus.ordinal()].sum();
+  }
+
+  /**
+   * @return an unmodifiable snapshot of the created counts, including the statuses that did not
+   * occur.
+   */
+  public Map<ResultStatus, Long> getCreatedCounts() {
+    return snapshot(created);
+  }
+
+  /**
+   * @return an unmodifiable snapshot of the resolved counts, including the statuses that did not
+   * occur.
+   */
+  public Map<ResultStatus, Long> getResolvedCounts() {
+    return snapshot(resolved);
+  }
+
+  /**
+   * Sets all counts and timings back to zero. Concurrent updates may or may not be kept.
+   */
+  public void reset() {
+    for (int index = 0; index < STATUSES.length; index++) {
+      created[index].reset();
+      resolved[index].reset();
+      timed[index].reset();
+      timedNanos[index].reset();
+    }
+  }
+
+  private static LongAdder[] newAdders() {
+    var adders = new LongAdder[STATUSES.length];
+    for (int index = 0; index < adders.length; index++) {
+      adders[index] = new LongAdder();
+    }
+    return adders;
+  }
+
+  private static Map<ResultStatus, Long> snapshot(LongAdder[] adders) {
+    var counts = new EnumMap<ResultStatus, Long>(ResultStatus.class);
+    for (var resultStatus : STATUSES) {
+      counts.put(resultStatus, adders[resultStatus.ordinal()].sum());
+    }
+    return Collections.unmodifiableMap(counts);
+  }
+
+}
@@ -0,0 +1,233 @@
+package com.compilit.results;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A Result specialized for int contents. A successful IntResult holds the unboxed value, an
+ * unsuccessful one wraps the unsuccessful {@link Result} it was created from, so messages are still
+ * formatted lazily and the no-argument failures are shared instances.
+ */
+public final class IntResult {
+
+  private static final IntResult NOT_FOUND = new IntResult(0, Result.notFound());
+  private static final IntResult UNPROCESSABLE = new IntResult(0, Result.unprocessable());
+  private static final IntResult UNAUTHORIZED = new IntResult(0, Result.unauthorized());
+
+  private final int value;
+  private final Result<?> failure;
+
+  private IntResult(int value, Result<?> failure) {
+    this.value = value;
+    this.failure = failure;
+  }
+
+  /**
+   * @param value the value.
+   * @return a successful IntResult holding the value.
+   */
+  public static IntResult success(int value) {
+    return new IntResult(value, null);
+  }
+
+  /**
+   * @return a shared not found IntResult with the default message.
+   */
+  public static IntResult notFound() {
+    return NOT_FOUND;
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return a not found IntResult.
+   */
+  public static IntResult notFound(String message, String... formatArguments) {
+    return new IntResult(0, Result.notFound(message, formatArguments));
+  }
+
+  /**
+   * @return a shared unprocessable IntResult with the default message.
+   */
+  public static IntResult unprocessable() {
+    return UNPROCESSABLE;
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return an unprocessable IntResult.
+   */
+  public static IntResult unprocessable(String message, String... formatArguments) {
+    return new IntResult(0, Result.unprocessable(message, formatArguments));
+  }
+
+  /**
+   * @return a shared unauthorized IntResult with the default message.
+   */
+  public static IntResult unauthorized() {
+    return UNAUTHORIZED;
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return an unauthorized IntResult.
+   */
+  public static IntResult unauthorized(String message, String... formatArguments) {
+    return new IntResult(0, Result.unauthorized(message, formatArguments));
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return an error occurred IntResult.
+   */
+  public static IntResult errorOccurred(String message, String... formatArguments) {
+    return new IntResult(0, Result.errorOccurred(message, formatArguments));
+  }
+
+  /**
+   * @param exception the exception which caused the failure.
+   * @return an error occurred IntResult with the exception message and the exception as cause.
+   */
+  public static IntResult fromException(Throwable exception) {
+    return new IntResult(0, Result.fromException(exception));
+  }
+
+  /**
+   * Adapts an unsuccessful Result of any content type, retaining its status, messages and cause.
+   *
+   * @param result the unsuccessful Result.
+   * @return an unsuccessful IntResult.
+   * @throws IllegalArgumentException if the Result is successful, as it has no int value.
+   */
+  public static IntResult fromResult(Result<?> result) {
+    if (result.isSuccessful()) {
+      throw new IllegalArgumentException("Only an unsuccessful Result can be adapted without a value");
+    }
+    return new IntResult(0, result);
+  }
+
+  /**
+   * @param supplier the value-supplying function.
+   * @return a successful IntResult with the supplied value, or an error occurred IntResult if the
+   * supplier throws an Exception.
+   */
+  public static IntResult resultOf(IntSupplier supplier) {
+    try {
+      return success(supplier.getAsInt());
+    } catch (Exception exception) {
+      return fromException(exception);
+    }
+  }
+
+  /**
+   * @param results the IntResults you wish to combine.
+   * @return IntResultCombiner to merge or total the results.
+   */
+  public static IntResultCombiner combineAll(IntResult... results) {
+    var combiner = new IntResultToArrayCombiner(results.length);
+    for (var result : results) {
+      combiner.and(result);
+    }
+    return combiner;
+  }
+
+  /**
+   * @param results the IntResults you wish to combine.
+   * @return IntResultCombiner to merge or total the results.
+   */
+  public static IntResultCombiner combineAll(Iterable<IntResult> results) {
+    var combiner = new IntResultToArrayCombiner(AbstractResultCombiner.DEFAULT_CAPACITY);
+    for (var result : results) {
+      combiner.and(result);
+    }
+    return combiner;
+  }
+
+  public ResultStatus getResultStatus() {
+    return failure == null ? ResultStatus.SUCCESS : failure.getResultStatus();
+  }
+
+  public boolean isSuccessful() {
+    return failure == null;
+  }
+
+  public boolean isUnsuccessful() {
+    return failure != null;
+  }
+
+  /**
+   * @return the value.
+   * @throws NoSuchElementException if this IntResult is unsuccessful.
+   */
+  public int getAsInt() {
+    if (failure != null) {
+      throw new NoSuchElementException("An unsuccessful Result has no value");
+    }
+    return value;
+  }
+
+  /**
+   * @param other the value to return if this IntResult is unsuccessful.
+   * @return the value, or the other value if this IntResult is unsuccessful.
+   */
+  public int orElse(int other) {
+    return failure == null ? value : other;
+  }
+
+  public String getMessage() {
+    return failure == null ? Message.NOTHING_TO_REPORT : failure.getMessage();
+  }
+
+  /**
+   * See {@link Result#getMessages()}.
+   *
+   * @return the separate messages.
+   */
+  public List<String> getMessages() {
+    return failure == null ? List.of(Message.NOTHING_TO_REPORT) : failure.getMessages();
+  }
+
+  /**
+   * @return the exception which caused this IntResult, or null.
+   */
+  public Throwable getCause() {
+    return failure == null ? null : failure.getCause();
+  }
+
+  /**
+   * @param mapper the function to apply to the value.
+   * @return IntResult of the mapped value, or this IntResult if it is unsuccessful.
+   */
+  public IntResult map(IntUnaryOperator mapper) {
+    return failure == null ? success(mapper.applyAsInt(value)) : this;
+  }
+
+  /**
+   * Bridges to a regular Result.
+   *
+   * @param mapper the function to apply to the value.
+   * @param <R>    the content type of the new Result.
+   * @return Result of the mapped value, or an unsuccessful Result with the same status and message.
+   */
+  public <R> Result<R> mapToObj(IntFunction<? extends R> mapper) {
+    return failure == null ? new SuccessResult<>(mapper.apply(value)) : failure.map(contents -> null);
+  }
+
+  /**
+   * @return a regular Result holding the boxed value.
+   */
+  public Result<Integer> boxed() {
+    return mapToObj(Integer::valueOf);
+  }
+
+  Result<?> failure() {
+    return failure;
+  }
+
+}
@@ -0,0 +1,54 @@
+package com.compilit.results;
+
+import java.util.Map;
+
+public interface IntResultCombiner {
+
+  /**
+   * @param result the next result you wish to combine with the previous.
+   * @return IntResultCombiner to chain the next result.
+   */
+  IntResultCombiner and(IntResult result);
+
+  /**
+   * Get all values of the passed results if all results were successful. In case of an unsuccessful
+   * result, the message will contain the error message of each underlying unsuccessful result.
+   *
+   * @return Result containing the values, in the order they were combined.
+   */
+  Result<int[]> merge();
+
+  /**
+   * Same as {@link #merge()}, but an unsuccessful combination gets the status determined by the
+   * given policy instead of always being UNPROCESSABLE.
+   *
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return Result containing the values, in the order they were combined.
+   */
+  Result<int[]> merge(AggregationPolicy aggregationPolicy);
+
+  /**
+   * Adds up the values of the passed results if all results were successful, without boxing them.
+   * The total of int values is a long, so it can't overflow.
+   *
+   * @return LongResult containing the total.
+   */
+  LongResult total();
+
+  /**
+   * Same as {@link #total()}, but an unsuccessful combination gets the status determined by the
+   * given policy instead of always being UNPROCESSABLE.
+   *
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return LongResult containing the total.
+   */
+  LongResult total(AggregationPolicy aggregationPolicy);
+
+  /**
+   * See {@link ContinuedResultCombiner#getStatusCounts()}.
+   *
+   * @return an unmodifiable Map containing a count for every ResultStatus.
+   */
+  Map<ResultStatus, Integer> getStatusCounts();
+
+}
@@ -0,0 +1,71 @@
+package com.compilit.results;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Stores the values of the combined IntResults in a int[], and leaves status counting and message
+ * aggregation to {@link AbstractResultCombiner}, which only ever sees the shared success Result and
+ * the wrapped unsuccessful Results.
+ */
+final class IntResultToArrayCombiner extends AbstractResultCombiner<Object>
+        implements IntResultCombiner {
+
+  private int[] values;
+  private int size;
+
+  IntResultToArrayCombiner(int expectedSize) {
+    super(0);
+    this.values = new int[Math.max(expectedSize, 1)];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public IntResultCombiner and(IntResult result) {
+    if (result.isSuccessful()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size + (size >> 1) + 1);
+      }
+      values[size++] = result.getAsInt();
+      resolve(SuccessResult.empty());
+    } else {
+      resolve((Result<Object>) result.failure());
+    }
+    return this;
+  }
+
+  @Override
+  public Result<int[]> merge() {
+    return merge(AggregationPolicy.UNPROCESSABLE);
+  }
+
+  @Override
+  public Result<int[]> merge(AggregationPolicy aggregationPolicy) {
+    return isSuccessful
+            ? new SuccessResult<>(Arrays.copyOf(values, size))
+            : aggregatedFailure(aggregationPolicy);
+  }
+
+  @Override
+  public LongResult total() {
+    return total(AggregationPolicy.UNPROCESSABLE);
+  }
+
+  @Override
+  public LongResult total(AggregationPolicy aggregationPolicy) {
+    if (!isSuccessful) {
+      return LongResult.fromResult(aggregatedFailure(aggregationPolicy));
+    }
+    var total = 0L;
+    for (int index = 0; index < size; index++) {
+      total += values[index];
+    }
+    return LongResult.success(total);
+  }
+
+  @Override
+  public Map<ResultStatus, Integer> getStatusCounts() {
+    return statusCounts();
+  }
+
+}
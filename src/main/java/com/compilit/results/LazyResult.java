@@ -0,0 +1,45 @@
+package com.compilit.results;
+
+import java.util.function.Supplier;
+
+/**
+ * A Result that is only produced on the first call to any of its methods. The supplier runs at most
+ * once, even when the first calls are concurrent, and is released afterwards.
+ */
+final class LazyResult<T> extends DelegatingResult<T> {
+
+  private Supplier<? extends Result<T>> supplier;
+  private volatile Result<T> result;
+
+  LazyResult(Supplier<? extends Result<T>> supplier) {
+    this.supplier = supplier;
+  }
+
+  @Override
+  protected Result<T> delegate() {
+    var evaluatedResult = result;
+    if (evaluatedResult == null) {
+      synchronized (this) {
+        evaluatedResult = result;
+        if (evaluatedResult == null) {
+          evaluatedResult = evaluate();
+          result = evaluatedResult;
+          supplier = null;
+        }
+      }
+    }
+    return evaluatedResult;
+  }
+
+  private Result<T> evaluate() {
+    try {
+      var suppliedResult = supplier.get();
+      return suppliedResult != null
+              ? suppliedResult
+              : Result.errorOccurred(Message.LAZY_WITHOUT_RESULT);
+    } catch (Exception exception) {
+      return Result.fromException(exception);
+    }
+  }
+
+}
@@ -0,0 +1,233 @@
+package com.compilit.results;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A Result specialized for long contents. A successful LongResult holds the unboxed value, an
+ * unsuccessful one wraps the unsuccessful {@link Result} it was created from, so messages are still
+ * formatted lazily and the no-argument failures are shared instances.
+ */
+public final class LongResult {
+
+  private static final LongResult NOT_FOUND = new LongResult(0L, Result.notFound());
+  private static final LongResult UNPROCESSABLE = new LongResult(0L, Result.unprocessable());
+  private static final LongResult UNAUTHORIZED = new LongResult(0L, Result.unauthorized());
+
+  private final long value;
+  private final Result<?> failure;
+
+  private LongResult(long value, Result<?> failure) {
+    this.value = value;
+    this.failure = failure;
+  }
+
+  /**
+   * @param value the value.
+   * @return a successful LongResult holding the value.
+   */
+  public static LongResult success(long value) {
+    return new LongResult(value, null);
+  }
+
+  /**
+   * @return a shared not found LongResult with the default message.
+   */
+  public static LongResult notFound() {
+    return NOT_FOUND;
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return a not found LongResult.
+   */
+  public static LongResult notFound(String message, String... formatArguments) {
+    return new LongResult(0L, Result.notFound(message, formatArguments));
+  }
+
+  /**
+   * @return a shared unprocessable LongResult with the default message.
+   */
+  public static LongResult unprocessable() {
+    return UNPROCESSABLE;
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return an unprocessable LongResult.
+   */
+  public static LongResult unprocessable(String message, String... formatArguments) {
+    return new LongResult(0L, Result.unprocessable(message, formatArguments));
+  }
+
+  /**
+   * @return a shared unauthorized LongResult with the default message.
+   */
+  public static LongResult unauthorized() {
+    return UNAUTHORIZED;
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return an unauthorized LongResult.
+   */
+  public static LongResult unauthorized(String message, String... formatArguments) {
+    return new LongResult(0L, Result.unauthorized(message, formatArguments));
+  }
+
+  /**
+   * @param message         the message you wish to add.
+   * @param formatArguments the message arguments you wish to replace the '%s' symbol with.
+   * @return an error occurred LongResult.
+   */
+  public static LongResult errorOccurred(String message, String... formatArguments) {
+    return new LongResult(0L, Result.errorOccurred(message, formatArguments));
+  }
+
+  /**
+   * @param exception the exception which caused the failure.
+   * @return an error occurred LongResult with the exception message and the exception as cause.
+   */
+  public static LongResult fromException(Throwable exception) {
+    return new LongResult(0L, Result.fromException(exception));
+  }
+
+  /**
+   * Adapts an unsuccessful Result of any content type, retaining its status, messages and cause.
+   *
+   * @param result the unsuccessful Result.
+   * @return an unsuccessful LongResult.
+   * @throws IllegalArgumentException if the Result is successful, as it has no long value.
+   */
+  public static LongResult fromResult(Result<?> result) {
+    if (result.isSuccessful()) {
+      throw new IllegalArgumentException("Only an unsuccessful Result can be adapted without a value");
+    }
+    return new LongResult(0L, result);
+  }
+
+  /**
+   * @param supplier the value-supplying function.
+   * @return a successful LongResult with the supplied value, or an error occurred LongResult if the
+   * supplier throws an Exception.
+   */
+  public static LongResult resultOf(LongSupplier supplier) {
+    try {
+      return success(supplier.getAsLong());
+    } catch (Exception exception) {
+      return fromException(exception);
+    }
+  }
+
+  /**
+   * @param results the LongResults you wish to combine.
+   * @return LongResultCombiner to merge or total the results.
+   */
+  public static LongResultCombiner combineAll(LongResult... results) {
+    var combiner = new LongResultToArrayCombiner(results.length);
+    for (var result : results) {
+      combiner.and(result);
+    }
+    return combiner;
+  }
+
+  /**
+   * @param results the LongResults you wish to combine.
+   * @return LongResultCombiner to merge or total the results.
+   */
+  public static LongResultCombiner combineAll(Iterable<LongResult> results) {
+    var combiner = new LongResultToArrayCombiner(AbstractResultCombiner.DEFAULT_CAPACITY);
+    for (var result : results) {
+      combiner.and(result);
+    }
+    return combiner;
+  }
+
+  public ResultStatus getResultStatus() {
+    return failure == null ? ResultStatus.SUCCESS : failure.getResultStatus();
+  }
+
+  public boolean isSuccessful() {
+    return failure == null;
+  }
+
+  public boolean isUnsuccessful() {
+    return failure != null;
+  }
+
+  /**
+   * @return the value.
+   * @throws NoSuchElementException if this LongResult is unsuccessful.
+   */
+  public long getAsLong() {
+    if (failure != null) {
+      throw new NoSuchElementException("An unsuccessful Result has no value");
+    }
+    return value;
+  }
+
+  /**
+   * @param other the value to return if this LongResult is unsuccessful.
+   * @return the value, or the other value if this LongResult is unsuccessful.
+   */
+  public long orElse(long other) {
+    return failure == null ? value : other;
+  }
+
+  public String getMessage() {
+    return failure == null ? Message.NOTHING_TO_REPORT : failure.getMessage();
+  }
+
+  /**
+   * See {@link Result#getMessages()}.
+   *
+   * @return the separate messages.
+   */
+  public List<String> getMessages() {
+    return failure == null ? List.of(Message.NOTHING_TO_REPORT) : failure.getMessages();
+  }
+
+  /**
+   * @return the exception which caused this LongResult, or null.
+   */
+  public Throwable getCause() {
+    return failure == null ? null : failure.getCause();
+  }
+
+  /**
+   * @param mapper the function to apply to the value.
+   * @return LongResult of the mapped value, or this LongResult if it is unsuccessful.
+   */
+  public LongResult map(LongUnaryOperator mapper) {
+    return failure == null ? success(mapper.applyAsLong(value)) : this;
+  }
+
+  /**
+   * Bridges to a regular Result.
+   *
+   * @param mapper the function to apply to the value.
+   * @param <R>    the content type of the new Result.
+   * @return Result of the mapped value, or an unsuccessful Result with the same status and message.
+   */
+  public <R> Result<R> mapToObj(LongFunction<? extends R> mapper) {
+    return failure == null ? new SuccessResult<>(mapper.apply(value)) : failure.map(contents -> null);
+  }
+
+  /**
+   * @return a regular Result holding the boxed value.
+   */
+  public Result<Long> boxed() {
+    return mapToObj(Long::valueOf);
+  }
+
+  Result<?> failure() {
+    return failure;
+  }
+
+}
@@ -0,0 +1,73 @@
+package com.compilit.results;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Stores the values of the combined LongResults in a long[], and leaves status counting and message
+ * aggregation to {@link AbstractResultCombiner}, which only ever sees the shared success Result and
+ * the wrapped unsuccessful Results.
+ */
+final class LongResultToArrayCombiner extends AbstractResultCombiner<Object>
+        implements LongResultCombiner {
+
+  private long[] values;
+  private int size;
+
+  LongResultToArrayCombiner(int expectedSize) {
+    super(0);
+    this.values = new long[Math.max(expectedSize, 1)];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public LongResultCombiner and(LongResult result) {
+    if (result.isSuccessful()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size + (size >> 1) + 1);
+      }
+      values[size++] = result.getAsLong();
+      resolve(SuccessResult.empty());
+    } else {
+      resolve((Result<Object>) result.failure());
+    }
+    return this;
+  }
+
+  @Override
+  public Result<long[]> merge() {
+    return merge(AggregationPolicy.UNPROCESSABLE);
+  }
+
+  @Override
+  public Result<long[]> merge(AggregationPolicy aggregationPolicy) {
+    return isSuccessful
+            ? new SuccessResult<>(Arrays.copyOf(values, size))
+            : aggregatedFailure(aggregationPolicy);
+  }
+
+  @Override
+  public LongResult total() {
+    return total(AggregationPolicy.UNPROCESSABLE);
+  }
+
+  @Override
+  public LongResult total(AggregationPolicy aggregationPolicy) {
+    if (!isSuccessful) {
+      return LongResult.fromResult(aggregatedFailure(aggregationPolicy));
+    }
+    return LongResult.resultOf(() -> {
+      var total = 0L;
+      for (int index = 0; index < size; index++) {
+        total = Math.addExact(total, values[index]);
+      }
+      return total;
+    });
+  }
+
+  @Override
+  public Map<ResultStatus, Integer> getStatusCounts() {
+    return statusCounts();
+  }
+
+}
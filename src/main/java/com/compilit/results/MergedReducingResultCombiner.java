@@ -0,0 +1,50 @@
+package com.compilit.results;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reduces the merged List of any ContinuedResultCombiner. Used by the default reduce and collect
+ * methods, for combiners that can't fold their contents while combining.
+ */
+final class MergedReducingResultCombiner<T, R> implements ReducingResultCombiner<T, R> {
+
+  private final Function<? super List<T>, ? extends R> reduction;
+  private ContinuedResultCombiner<T> combiner;
+
+  MergedReducingResultCombiner(ContinuedResultCombiner<T> combiner,
+                               Function<? super List<T>, ? extends R> reduction) {
+    this.combiner = combiner;
+    this.reduction = reduction;
+  }
+
+  @Override
+  public ReducingResultCombiner<T, R> and(Result<T> result) {
+    combiner = combiner.and(result);
+    return this;
+  }
+
+  @Override
+  public ReducingResultCombiner<T, R> and(Supplier<? extends Result<T>> resultSupplier) {
+    combiner = combiner.and(resultSupplier);
+    return this;
+  }
+
+  @Override
+  public Result<R> merge() {
+    return combiner.merge().map(reduction);
+  }
+
+  @Override
+  public Result<R> merge(AggregationPolicy aggregationPolicy) {
+    return combiner.merge(aggregationPolicy).map(reduction);
+  }
+
+  @Override
+  public Map<ResultStatus, Integer> getStatusCounts() {
+    return combiner.getStatusCounts();
+  }
+
+}
@@ -5,4 +5,14 @@ class Message {
   static final String NO_MESSAGE_AVAILABLE = "No message available";
   static final String MESSAGE_FORMAT_ERROR = "Unable to format result message, reason: ";
   static final String UNSUCCESSFUL_RESULT = "At least one Result was not successful, ";
+  static final String TASK_TIMED_OUT = "Task %s did not complete within %s";
+  static final String TASK_INTERRUPTED = "Task %s was interrupted before it completed";
+  static final String TASK_WITHOUT_RESULT = "Task %s did not return a Result";
+  static final String NO_TASKS = "There were no tasks to run";
+  static final String ATTEMPT_TIMED_OUT = "Attempt %s did not complete within %s";
+  static final String ATTEMPT_INTERRUPTED = "Attempt %s was interrupted before it completed";
+  static final String ATTEMPT_WITHOUT_RESULT = "Attempt %s did not produce a Result";
+  static final String MAPPER_WITHOUT_RESULT = "The mapper did not return an AsyncResult";
+  static final String LOADER_WITHOUT_RESULT = "The loader for key %s returned no Result";
+  static final String LAZY_WITHOUT_RESULT = "The lazy Result was supplied without a Result";
 }
@@ -0,0 +1,117 @@
+package com.compilit.results;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A recurring failure message, identified by a code. Message codes are interned: there is one
+ * instance per code, and the message is stored once. The failure factories that accept a message
+ * code, like {@link Result#notFound(MessageCode)}, return one shared Result per status and code, so
+ * a recurring failure allocates nothing.
+ *
+ * <p>Message codes are meant to be defined as constants. They are never evicted.</p>
+ */
+public final class MessageCode {
+
+  private static final Map<String, MessageCode> CODES = new ConcurrentHashMap<>();
+  private static final Map<String, MessageCode> CODES_BY_MESSAGE = new ConcurrentHashMap<>();
+
+  private final String code;
+  private final String message;
+  private final AtomicReferenceArray<Result<?>> results =
+          new AtomicReferenceArray<>(ResultStatus.values().length);
+
+  private MessageCode(String code, String message) {
+    this.code = code;
+    this.message = message;
+  }
+
+  /**
+   * Returns the message code for the given code, defining it on the first call. The message is
+   * taken literally, it is not a format template.
+   *
+   * @param code    the code which identifies the message.
+   * @param message the message.
+   * @return the interned message code.
+   * @throws IllegalArgumentException if the code is already defined with another message.
+   */
+  public static MessageCode of(String code, String message) {
+    if (code == null || message == null) {
+      throw new IllegalArgumentException("A message code needs a code and a message");
+    }
+    var messageCode = CODES.computeIfAbsent(code, key -> new MessageCode(key, message));
+    if (!messageCode.message.equals(message)) {
+      throw new IllegalArgumentException(
+              "Message code " + code + " is already defined with another message");
+    }
+    CODES_BY_MESSAGE.putIfAbsent(message, messageCode);
+    return messageCode;
+  }
+
+  /**
+   * @param code the code which identifies the message.
+   * @return the message code, if it was defined.
+   */
+  public static Optional<MessageCode> forCode(String code) {
+    return Optional.ofNullable(CODES.get(code));
+  }
+
+  public String getCode() {
+    return code;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * @param resultStatus an unsuccessful status.
+   * @return the shared Result for the status and this code, created on first use.
+   */
+  @SuppressWarnings("unchecked")
+  <T> Result<T> resultOf(ResultStatus resultStatus) {
+    var index = resultStatus.ordinal();
+    var result = results.get(index);
+    if (result == null) {
+      results.compareAndSet(index, null, createResult(resultStatus));
+      result = results.get(index);
+    }
+    return (Result<T>) result;
+  }
+
+  /**
+   * @param result any Result.
+   * @return the message code if the Result is the shared Result of a message code, otherwise null.
+   */
+  static MessageCode sharedBy(Result<?> result) {
+    var messageCode = CODES_BY_MESSAGE.get(result.getMessage());
+    if (messageCode != null
+            && messageCode.results.get(result.getResultStatus().ordinal()) == result) {
+      return messageCode;
+    }
+    return null;
+  }
+
+  private Result<?> createResult(ResultStatus resultStatus) {
+    switch (resultStatus) {
+      case NOT_FOUND:
+        return new NotFoundResult<>(message);
+      case UNPROCESSABLE:
+        return new UnprocessableResult<>(message);
+      case UNAUTHORIZED:
+        return new UnauthorizedResult<>(message);
+      case ERROR_OCCURRED:
+        return new ErrorOccurredResult<>(message);
+      default:
+        throw new IllegalArgumentException("A message code only applies to unsuccessful results");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return code + ": " + message;
+  }
+
+}
@@ -13,7 +13,7 @@ class MessageFormatter {
     if (formatArguments == null || formatArguments.length == 0)
       return message;
     try {
-      return String.format(message, formatArguments);
+      return MessageTemplate.of(message).render(formatArguments);
     } catch (IllegalFormatException exception) {
       return Message.MESSAGE_FORMAT_ERROR + exception.getMessage();
     }
@@ -0,0 +1,121 @@
+package com.compilit.results;
+
+import java.util.Formattable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A message template that is parsed once. Templates that only contain '%s', '%%' and '%n' are
+ * rendered with a single presized StringBuilder. All other templates are rendered by
+ * {@link String#format(String, Object...)}, so their output and exceptions are exactly the same.
+ */
+final class MessageTemplate {
+
+  static final int MAX_CACHED_TEMPLATES = 1024;
+  private static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+  private static final Map<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+  private final String template;
+  private final String[] literals;
+  private final int literalLength;
+  private final boolean isSimple;
+
+  private MessageTemplate(String template) {
+    this.template = template;
+    var literals = new String[countPlaceholders(template) + 1];
+    var literal = new StringBuilder(template.length());
+    var literalIndex = 0;
+    var literalLength = 0;
+    var isSimple = true;
+    for (int index = 0; index < template.length() && isSimple; index++) {
+      var character = template.charAt(index);
+      if (character != '%') {
+        literal.append(character);
+        continue;
+      }
+      var conversion = index + 1 < template.length() ? template.charAt(++index) : 0;
+      switch (conversion) {
+        case 's':
+          literalLength += literal.length();
+          literals[literalIndex++] = literal.toString();
+          literal.setLength(0);
+          break;
+        case '%':
+          literal.append('%');
+          break;
+        case 'n':
+          literal.append(System.lineSeparator());
+          break;
+        default:
+          isSimple = false;
+      }
+    }
+    literalLength += literal.length();
+    literals[literalIndex] = literal.toString();
+    this.literals = literals;
+    this.literalLength = literalLength;
+    this.isSimple = isSimple;
+  }
+
+  /**
+   * Returns the cached template, or parses it. Once the cache is full, new templates are parsed
+   * without being cached, so unbounded numbers of distinct messages can't exhaust the heap.
+   *
+   * @param template the message template.
+   * @return the parsed template.
+   */
+  static MessageTemplate of(String template) {
+    var messageTemplate = CACHE.get(template);
+    if (messageTemplate != null) {
+      return messageTemplate;
+    }
+    messageTemplate = new MessageTemplate(template);
+    if (CACHE.size() < MAX_CACHED_TEMPLATES) {
+      CACHE.putIfAbsent(template, messageTemplate);
+    }
+    return messageTemplate;
+  }
+
+  static int cacheSize() {
+    return CACHE.size();
+  }
+
+  /**
+   * @param formatArguments the arguments for the placeholders.
+   * @return the rendered message.
+   * @throws java.util.IllegalFormatException under the same conditions as String.format.
+   */
+  String render(Object... formatArguments) {
+    var placeholders = literals.length - 1;
+    if (!isSimple || formatArguments.length < placeholders) {
+      return String.format(template, formatArguments);
+    }
+    var capacity = literalLength;
+    for (int index = 0; index < placeholders; index++) {
+      var formatArgument = formatArguments[index];
+      if (formatArgument instanceof Formattable) {
+        return String.format(template, formatArguments);
+      }
+      capacity += formatArgument instanceof String
+              ? ((String) formatArgument).length()
+              : ESTIMATED_ARGUMENT_LENGTH;
+    }
+    var stringBuilder = new StringBuilder(capacity).append(literals[0]);
+    for (int index = 0; index < placeholders; index++) {
+      stringBuilder.append(formatArguments[index]).append(literals[index + 1]);
+    }
+    return stringBuilder.toString();
+  }
+
+  private static int countPlaceholders(String template) {
+    var count = 0;
+    for (int index = template.indexOf('%'); index >= 0 && index + 1 < template.length();
+         index = template.indexOf('%', index + 2)) {
+      if (template.charAt(index + 1) == 's') {
+        count++;
+      }
+    }
+    return count;
+  }
+
+}
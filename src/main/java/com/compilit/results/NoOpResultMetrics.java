@@ -0,0 +1,27 @@
+package com.compilit.results;
+
+final class NoOpResultMetrics implements ResultMetrics {
+
+  static final NoOpResultMetrics INSTANCE = new NoOpResultMetrics();
+
+  private NoOpResultMetrics() {
+  }
+
+  @Override
+  public void recordCreated(ResultStatus resultStatus) {
+  }
+
+  @Override
+  public void recordResolved(ResultStatus resultStatus) {
+  }
+
+  @Override
+  public void recordDuration(ResultStatus resultStatus, long durationNanos) {
+  }
+
+  @Override
+  public boolean isTimingEnabled() {
+    return false;
+  }
+
+}
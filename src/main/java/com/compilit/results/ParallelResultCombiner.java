@@ -0,0 +1,80 @@
+package com.compilit.results;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Resolves large lists of results on a ForkJoinPool. The list is split into chunks which are
+ * resolved into partial combiners in parallel. The partial combiners are then absorbed in input
+ * order into one presized combiner, so contents and message numbering are identical to a
+ * sequential combine.
+ */
+final class ParallelResultCombiner {
+
+  static final int CHUNK_SIZE = 4096;
+
+  private ParallelResultCombiner() {
+  }
+
+  static <T> ContinuedResultToListCombiner<T> combine(List<? extends Result<T>> results,
+                                                      ForkJoinPool forkJoinPool) {
+    var randomAccessResults = results instanceof RandomAccess ? results : new ArrayList<>(results);
+    var chunks = (randomAccessResults.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    if (chunks <= 1) {
+      var combiner = new ContinuedResultToListCombiner<T>(randomAccessResults.size());
+      combiner.resolveAll(randomAccessResults);
+      return combiner;
+    }
+    @SuppressWarnings("unchecked")
+    var partials = (ContinuedResultToListCombiner<T>[]) new ContinuedResultToListCombiner<?>[chunks];
+    forkJoinPool.invoke(new ResolveAction<>(randomAccessResults, partials, 0, chunks));
+    var contentsCount = 0;
+    for (var partial : partials) {
+      contentsCount += partial.contentsCount();
+    }
+    var combiner = new ContinuedResultToListCombiner<T>(contentsCount);
+    for (var partial : partials) {
+      combiner.absorb(partial);
+    }
+    return combiner;
+  }
+
+  private static final class ResolveAction<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<? extends Result<T>> results;
+    private final ContinuedResultToListCombiner<T>[] partials;
+    private final int fromChunk;
+    private final int toChunk;
+
+    private ResolveAction(List<? extends Result<T>> results,
+                          ContinuedResultToListCombiner<T>[] partials,
+                          int fromChunk,
+                          int toChunk) {
+      this.results = results;
+      this.partials = partials;
+      this.fromChunk = fromChunk;
+      this.toChunk = toChunk;
+    }
+
+    @Override
+    protected void compute() {
+      if (toChunk - fromChunk > 1) {
+        var middle = (fromChunk + toChunk) >>> 1;
+        invokeAll(new ResolveAction<>(results, partials, fromChunk, middle),
+                new ResolveAction<>(results, partials, middle, toChunk));
+        return;
+      }
+      var from = fromChunk * CHUNK_SIZE;
+      var to = Math.min(from + CHUNK_SIZE, results.size());
+      var partial = new ContinuedResultToListCombiner<T>(to - from);
+      partial.resolveAll(results.subList(from, to));
+      partials[fromChunk] = partial;
+    }
+  }
+
+}
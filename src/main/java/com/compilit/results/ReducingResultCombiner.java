@@ -0,0 +1,50 @@
+package com.compilit.results;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+public interface ReducingResultCombiner<T, R> {
+
+  /**
+   * @param result the next result you wish to combine with the previous.
+   * @return ReducingResultCombiner to chain the next result.
+   */
+  ReducingResultCombiner<T, R> and(Result<T> result);
+
+  /**
+   * Lazy variant of {@link #and(Result)}. A fail-fast combiner does not call the supplier if an
+   * unsuccessful result was already combined.
+   *
+   * @param resultSupplier supplies the next result you wish to combine with the previous.
+   * @return ReducingResultCombiner to chain the next result.
+   */
+  default ReducingResultCombiner<T, R> and(Supplier<? extends Result<T>> resultSupplier) {
+    return and(resultSupplier.get());
+  }
+
+  /**
+   * Get the reduced contents of the passed results if all results were successful. Returns a
+   * SuccessResult if, and only if all other results were successful. In case of an unsuccessful
+   * result, the message will contain the error message of each underlying unsuccessful result.
+   *
+   * @return Result containing the reduced contents.
+   */
+  Result<R> merge();
+
+  /**
+   * Same as {@link #merge()}, but an unsuccessful combination gets the status determined by the
+   * given policy instead of always being UNPROCESSABLE.
+   *
+   * @param aggregationPolicy the policy which determines the status of an unsuccessful combination.
+   * @return Result containing the reduced contents.
+   */
+  Result<R> merge(AggregationPolicy aggregationPolicy);
+
+  /**
+   * See {@link ContinuedResultCombiner#getStatusCounts()}.
+   *
+   * @return an unmodifiable Map containing a count for every ResultStatus.
+   */
+  Map<ResultStatus, Integer> getStatusCounts();
+
+}
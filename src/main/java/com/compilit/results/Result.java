@@ -1,12 +1,39 @@
 package com.compilit.results;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 /**
  * This interface is your entrypoint for all result operations.
  *
+ * <p>Results are immutable. The factories that create a result without contents and without a
+ * message ({@link #success()}, {@link #notFound()}, {@link #unprocessable()},
+ * {@link #unauthorized()} and {@link #fromResult(Result)} for a result with the default message)
+ * return one shared instance per {@link ResultStatus}, regardless of the content type. Results do
+ * not override {@code equals}, so compare them by status, message and contents rather than by
+ * identity.</p>
+ *
+ * <p>The failure factories that accept format arguments do not format the message right away. The
+ * message template and its arguments are kept, and the message is formatted on the first call to
+ * {@link #getMessage()} and cached afterwards. Results that are only checked for their status never
+ * pay for formatting.</p>
+ *
+ * <p>Recurring failures can use a {@link MessageCode} instead of a message. There is one shared
+ * Result per status and message code.</p>
+ *
+ * <p>The factories report every Result they create to the installed {@link ResultMetrics}, which
+ * records nothing unless an implementation is installed.</p>
+ *
  * @param <T> The type of the result you wish to return.
  */
 public interface Result<T> {
@@ -15,10 +42,10 @@ public interface Result<T> {
    * A generic success result for a process or validation.
    *
    * @param <T> the type of the contents.
-   * @return a success Result.
+   * @return the shared success Result without contents.
    */
   static <T> Result<T> success() {
-    return new SuccessResult<>();
+    return ResultMetricsRegistry.created(SuccessResult.empty());
   }
 
   /**
@@ -29,17 +56,17 @@ public interface Result<T> {
    * @return a success Result with contents. Or an empty resource Result if the content is null.
    */
   static <T> Result<T> success(T contents) {
-    return new SuccessResult<>(contents);
+    return ResultMetricsRegistry.created(new SuccessResult<>(contents));
   }
 
   /**
    * A generic result for when the client asks for a non-existent resource.
    *
    * @param <T> the content type.
-   * @return a not found Result without a message.
+   * @return the shared not found Result without a message.
    */
   static <T> Result<T> notFound() {
-    return new NotFoundResult<>();
+    return ResultMetricsRegistry.created(NotFoundResult.empty());
   }
 
   /**
@@ -51,18 +78,32 @@ public interface Result<T> {
    * @return a not found Result with a message.
    */
   static <T> Result<T> notFound(String message, String... formatArguments) {
-    var actualMessage = MessageFormatter.formatMessage(message, (Object[]) formatArguments);
-    return new NotFoundResult<>(actualMessage);
+    return ResultMetricsRegistry.created(new NotFoundResult<>(message, formatArguments));
+  }
+
+  /**
+   * A generic result for when the client asks for a non-existent resource, with a recurring
+   * message.
+   *
+   * @param messageCode the interned message. If null, the default message is used.
+   * @param <T>         the content type.
+   * @return the shared not found Result for the message code.
+   */
+  static <T> Result<T> notFound(MessageCode messageCode) {
+    if (messageCode == null) {
+      return notFound((String) null);
+    }
+    return ResultMetricsRegistry.created(messageCode.<T>resultOf(ResultStatus.NOT_FOUND));
   }
 
   /**
    * A generic failure result. Can be used for pretty much any failed process or validation.
    *
    * @param <T> the type of the contents.
-   * @return an unprocessable Result without a message.
+   * @return the shared unprocessable Result without a message.
    */
   static <T> Result<T> unprocessable() {
-    return new UnprocessableResult<>();
+    return ResultMetricsRegistry.created(UnprocessableResult.empty());
   }
 
   /**
@@ -74,18 +115,31 @@ public interface Result<T> {
    * @return an unprocessable Result with a message.
    */
   static <T> Result<T> unprocessable(String message, String... formatArguments) {
-    var actualMessage = MessageFormatter.formatMessage(message, (Object[]) formatArguments);
-    return new UnprocessableResult<>(actualMessage);
+    return ResultMetricsRegistry.created(new UnprocessableResult<>(message, formatArguments));
+  }
+
+  /**
+   * A generic failure result with a recurring message.
+   *
+   * @param messageCode the interned message. If null, the default message is used.
+   * @param <T>         the type of the contents.
+   * @return the shared unprocessable Result for the message code.
+   */
+  static <T> Result<T> unprocessable(MessageCode messageCode) {
+    if (messageCode == null) {
+      return unprocessable((String) null);
+    }
+    return ResultMetricsRegistry.created(messageCode.<T>resultOf(ResultStatus.UNPROCESSABLE));
   }
 
   /**
    * A generic result for any encountered authentication/authorization issue.
    *
    * @param <T> the content type.
-   * @return an empty unauthorized Result without a message.
+   * @return the shared unauthorized Result without a message.
    */
   static <T> Result<T> unauthorized() {
-    return new UnauthorizedResult<>();
+    return ResultMetricsRegistry.created(UnauthorizedResult.empty());
   }
 
   /**
@@ -97,8 +151,22 @@ public interface Result<T> {
    * @return an empty unauthorized Result with a message.
    */
   static <T> Result<T> unauthorized(String message, String... formatArguments) {
-    var actualMessage = MessageFormatter.formatMessage(message, (Object[]) formatArguments);
-    return new UnauthorizedResult<>(actualMessage);
+    return ResultMetricsRegistry.created(new UnauthorizedResult<>(message, formatArguments));
+  }
+
+  /**
+   * A generic result for any encountered authentication/authorization issue, with a recurring
+   * message.
+   *
+   * @param messageCode the interned message. If null, the default message is used.
+   * @param <T>         the content type.
+   * @return the shared unauthorized Result for the message code.
+   */
+  static <T> Result<T> unauthorized(MessageCode messageCode) {
+    if (messageCode == null) {
+      return unauthorized((String) null);
+    }
+    return ResultMetricsRegistry.created(messageCode.<T>resultOf(ResultStatus.UNAUTHORIZED));
   }
 
   /**
@@ -110,8 +178,33 @@ public interface Result<T> {
    * @return an error occurred Result with a message.
    */
   static <T> Result<T> errorOccurred(String message, String... formatArguments) {
-    var actualMessage = MessageFormatter.formatMessage(message, (Object[]) formatArguments);
-    return new ErrorOccurredResult<>(actualMessage);
+    return ResultMetricsRegistry.created(new ErrorOccurredResult<>(message, formatArguments));
+  }
+
+  /**
+   * A generic error result with a recurring message. It has no cause, use
+   * {@link #fromException(Throwable)} to keep an exception.
+   *
+   * @param messageCode the interned message. If null, the default message is used.
+   * @param <T>         the content type.
+   * @return the shared error occurred Result for the message code.
+   */
+  static <T> Result<T> errorOccurred(MessageCode messageCode) {
+    if (messageCode == null) {
+      return errorOccurred((String) null);
+    }
+    return ResultMetricsRegistry.created(messageCode.<T>resultOf(ResultStatus.ERROR_OCCURRED));
+  }
+
+  /**
+   * A generic result for a caught exception. The exception is kept as the cause of the Result.
+   *
+   * @param <T>       the content type.
+   * @param exception the exception that caused the error.
+   * @return an error occurred Result with the exception message.
+   */
+  static <T> Result<T> fromException(Throwable exception) {
+    return ResultMetricsRegistry.created(new ErrorOccurredResult<>(exception));
   }
 
   /**
@@ -120,14 +213,17 @@ public interface Result<T> {
    *
    * @param runnable the actual process.
    * @param <T>      the content type.
-   * @return SuccessResult or ErrorOccurredResult with the exception message.
+   * @return SuccessResult or ErrorOccurredResult with the exception message and the exception as
+   * cause.
    */
   static <T> Result<T> resultOf(Runnable runnable) {
+    var startTime = ResultMetricsRegistry.startTime();
+    var event = ResultEvents.startResultOf();
     try {
       runnable.run();
-      return Result.success();
+      return ResultMetricsRegistry.timed(Result.success(), startTime);
     } catch (Exception exception) {
-      return Result.errorOccurred(exception.getMessage());
+      return ResultMetricsRegistry.timed(ResultEvents.resultOfCaught(event, exception), startTime);
     }
   }
 
@@ -138,14 +234,17 @@ public interface Result<T> {
    *
    * @param supplier the content-supplying function.
    * @param <T>      the type of the contents.
-   * @return SuccessResult or ErrorOccurredResult with the exception message.
+   * @return SuccessResult or ErrorOccurredResult with the exception message and the exception as
+   * cause.
    */
   static <T> Result<T> resultOf(Supplier<T> supplier) {
+    var startTime = ResultMetricsRegistry.startTime();
+    var event = ResultEvents.startResultOf();
     try {
       var result = supplier.get();
-      return Result.success(result);
+      return ResultMetricsRegistry.timed(Result.success(result), startTime);
     } catch (Exception exception) {
-      return Result.errorOccurred(exception.getMessage());
+      return ResultMetricsRegistry.timed(ResultEvents.resultOfCaught(event, exception), startTime);
     }
   }
 
@@ -158,9 +257,11 @@ public interface Result<T> {
    * @param predicate the predicate which to apply to the value.
    * @param value     the value which needs to be tested by the predicate.
    * @param <T>       the type of the contents.
-   * @return SuccessResult, UnprocessableResult or ErrorOccurredResult with the exception message.
+   * @return SuccessResult, UnprocessableResult or ErrorOccurredResult with the exception message
+   * and the exception as cause.
    */
   static <T> Result<T> resultOf(Predicate<T> predicate, T value) {
+    var event = ResultEvents.startResultOf();
     try {
       var result = predicate.test(value);
       if (result) {
@@ -168,13 +269,113 @@ public interface Result<T> {
       }
       return Result.unprocessable();
     } catch (Exception exception) {
-      return Result.errorOccurred(exception.getMessage());
+      return ResultEvents.resultOfCaught(event, exception);
     }
   }
 
+  /**
+   * Asynchronous variant of {@link #resultOf(Supplier)}, which runs the supplier on the common
+   * ForkJoinPool.
+   *
+   * @param supplier the content-supplying function.
+   * @param <T>      the type of the contents.
+   * @return AsyncResult which completes with a SuccessResult or an ErrorOccurredResult.
+   */
+  static <T> AsyncResult<T> async(Supplier<T> supplier) {
+    return AsyncResult.of(supplier);
+  }
+
+  /**
+   * Asynchronous variant of {@link #resultOf(Supplier)}, which runs the supplier on the given
+   * executor.
+   *
+   * @param supplier the content-supplying function.
+   * @param executor the executor to run the supplier on.
+   * @param <T>      the type of the contents.
+   * @return AsyncResult which completes with a SuccessResult or an ErrorOccurredResult.
+   */
+  static <T> AsyncResult<T> async(Supplier<T> supplier, Executor executor) {
+    return AsyncResult.of(supplier, executor);
+  }
+
+  /**
+   * Runs all tasks concurrently and merges their results in task order. On Java 21+ every task runs
+   * on its own virtual thread. A task that throws an Exception or an Error gives an
+   * ErrorOccurredResult. An unsuccessful outcome gets the most severe status of the unsuccessful
+   * tasks.
+   *
+   * @param tasks the Result-producing tasks.
+   * @param <T>   the content type of the results.
+   * @return Result containing a List of T.
+   */
+  static <T> Result<List<T>> allOf(List<? extends Callable<Result<T>>> tasks) {
+    return ResultFanOut.allOf(tasks, null, false);
+  }
+
+  /**
+   * Runs all tasks concurrently and merges their results in task order. See {@link #allOf(List)}.
+   * Tasks that did not complete within the timeout are cancelled and count as ErrorOccurredResults,
+   * so the outcome is an ERROR_OCCURRED Result.
+   *
+   * @param tasks           the Result-producing tasks.
+   * @param timeout         the maximum time to wait for all tasks together.
+   * @param cancelOnFailure if true, the remaining tasks are cancelled as soon as one task produces
+   *                        an unsuccessful Result. Cancelled tasks are left out of the outcome.
+   * @param <T>             the content type of the results.
+   * @return Result containing a List of T.
+   */
+  static <T> Result<List<T>> allOf(List<? extends Callable<Result<T>>> tasks,
+                                   Duration timeout,
+                                   boolean cancelOnFailure) {
+    return ResultFanOut.allOf(tasks, timeout, cancelOnFailure);
+  }
+
+  /**
+   * Runs all tasks concurrently and returns the first successful Result. The remaining tasks are
+   * cancelled as soon as it is available. If no task succeeds, the unsuccessful results are summed
+   * up, with the most severe status of the unsuccessful tasks. Without tasks, the outcome is an
+   * unprocessable Result.
+   *
+   * @param tasks the Result-producing tasks.
+   * @param <T>   the content type of the results.
+   * @return the first successful Result, or an unsuccessful Result of all others combined.
+   */
+  static <T> Result<T> anyOf(List<? extends Callable<Result<T>>> tasks) {
+    return ResultFanOut.anyOf(tasks, null);
+  }
+
+  /**
+   * See {@link #anyOf(List)}. If no task succeeded within the timeout, all tasks are cancelled and
+   * the outcome is an ERROR_OCCURRED Result.
+   *
+   * @param tasks   the Result-producing tasks.
+   * @param timeout the maximum time to wait for a successful Result.
+   * @param <T>     the content type of the results.
+   * @return the first successful Result, or an unsuccessful Result of all others combined.
+   */
+  static <T> Result<T> anyOf(List<? extends Callable<Result<T>>> tasks, Duration timeout) {
+    return ResultFanOut.anyOf(tasks, timeout);
+  }
+
+  /**
+   * A Result that is only produced when it is used. The supplier runs once, on the first call to any
+   * method of the Result, also when that first call happens on several threads at the same time. A
+   * fail-fast combiner that already combined an unsuccessful result never runs it. If the supplier
+   * throws an Exception, the Result is an ErrorOccurredResult with the exception as cause.
+   *
+   * @param resultSupplier the function which produces the Result.
+   * @param <T>            the content type.
+   * @return a Result that evaluates the supplier on first use.
+   */
+  static <T> Result<T> lazy(Supplier<? extends Result<T>> resultSupplier) {
+    return new LazyResult<>(resultSupplier);
+  }
+
   /**
    * Transforms an existing Result into another one while retaining the status. Works as an adapter.
-   * Example: pass an Integer Result, but return a String Result.
+   * Example: pass an Integer Result, but return a String Result. The cause of an error occurred
+   * Result is kept. If the existing Result carries the default message and no cause, the shared
+   * Result for its status is returned.
    *
    * @param result the existing Result.
    * @param <T>    the content type of the new Result.
@@ -183,12 +384,16 @@ public interface Result<T> {
   static <T> Result<T> fromResult(Result<?> result) {
     var resultStatus = result.getResultStatus();
     var resultMessage = result.getMessage();
+    if (resultStatus == ResultStatus.ERROR_OCCURRED && result.getCause() != null) {
+      return causedErrorOf(resultMessage, result.getCause());
+    }
     return resultOf(resultStatus, resultMessage);
   }
 
   /**
    * Transforms an existing Result into another one with a different content while retaining the
-   * status. Works as an adapter. Example: pass an Integer Result, but return a String Result.
+   * status. Works as an adapter. Example: pass an Integer Result, but return a String Result. The
+   * cause of an error occurred Result is kept.
    *
    * @param content the content you with to propagate.
    * @param result  the existing Result.
@@ -198,12 +403,16 @@ public interface Result<T> {
   static <T> Result<T> fromResult(Result<?> result, T content) {
     var resultStatus = result.getResultStatus();
     var resultMessage = result.getMessage();
+    if (resultStatus == ResultStatus.ERROR_OCCURRED && result.getCause() != null) {
+      return causedErrorOf(resultMessage, result.getCause());
+    }
     return Result.resultOf(resultStatus, resultMessage, content);
   }
 
   /**
    * Transforms an existing Result into another one with a different content while retaining the
-   * status. Works as an adapter. Example: pass an Integer Result, but return a String Result.
+   * status. Works as an adapter. Example: pass an Integer Result, but return a String Result. The
+   * cause of an error occurred Result is kept.
    *
    * @param message         the message you with to add.
    * @param formatArguments the message arguments you with to replace the '%s' symbol with.
@@ -214,6 +423,9 @@ public interface Result<T> {
   static <T> Result<T> fromResult(Result<?> result, String message, String... formatArguments) {
     var resultStatus = result.getResultStatus();
     var actualMessage = MessageFormatter.formatMessage(message, (Object[]) formatArguments);
+    if (resultStatus == ResultStatus.ERROR_OCCURRED && result.getCause() != null) {
+      return causedErrorOf(actualMessage, result.getCause());
+    }
     return resultOf(resultStatus, actualMessage);
   }
 
@@ -226,10 +438,178 @@ public interface Result<T> {
     return new ResultToListCombiner<>(result);
   }
 
+  /**
+   * Starts a fail-fast combination. As soon as an unsuccessful result is combined, all contents are
+   * dropped and every following result is ignored, and suppliers passed to
+   * {@link ResultCombiner#with(Supplier)} or {@link ContinuedResultCombiner#and(Supplier)} are not
+   * called anymore. merge/sum therefore only report the message of the first unsuccessful result.
+   *
+   * @param <T>    the content type of the result.
+   * @param result the result you wish to combine/merge/sum with others.
+   * @return ResultCombiner to chain the next result.
+   */
+  static <T> ResultCombiner<T> combineFailFast(Result<T> result) {
+    return new ResultToListCombiner<>(result, true);
+  }
+
+  /**
+   * Evaluates the given suppliers in order until one of them supplies an unsuccessful result. The
+   * remaining suppliers are not called. See {@link #combineFailFast(Result)}.
+   *
+   * @param <T>             the content type of the results.
+   * @param resultSuppliers the suppliers of the results you wish to combine/merge/sum.
+   * @return ContinuedResultCombiner to chain more results or to merge/sum them.
+   */
+  static <T> ContinuedResultCombiner<T> combineAllFailFast(
+          Iterable<? extends Supplier<? extends Result<T>>> resultSuppliers) {
+    var expectedSize = resultSuppliers instanceof Collection
+            ? ((Collection<?>) resultSuppliers).size()
+            : AbstractResultCombiner.DEFAULT_CAPACITY;
+    var combiner = new ContinuedResultToListCombiner<T>(expectedSize, true);
+    combiner.resolveAllSupplied(resultSuppliers);
+    return combiner;
+  }
+
+  /**
+   * Combines all given results at once. The outcome of merge/sum is the same as chaining every
+   * result through {@link #combine(Result)}, but the buffers are presized from the collection size.
+   *
+   * @param <T>     the content type of the results.
+   * @param results the results you wish to combine/merge/sum.
+   * @return ContinuedResultCombiner to chain more results or to merge/sum them.
+   */
+  static <T> ContinuedResultCombiner<T> combineAll(Collection<? extends Result<T>> results) {
+    var combiner = new ContinuedResultToListCombiner<T>(results.size());
+    combiner.resolveAll(results);
+    return combiner;
+  }
+
+  /**
+   * Combines all given results at once. See {@link #combineAll(Collection)}.
+   *
+   * @param <T>     the content type of the results.
+   * @param results the results you wish to combine/merge/sum.
+   * @return ContinuedResultCombiner to chain more results or to merge/sum them.
+   */
+  @SafeVarargs
+  static <T> ContinuedResultCombiner<T> combineAll(Result<T>... results) {
+    var combiner = new ContinuedResultToListCombiner<T>(results.length);
+    for (var result : results) {
+      combiner.resolve(result);
+    }
+    return combiner;
+  }
+
+  /**
+   * Combines all given results at once. See {@link #combineAll(Collection)}. The buffers are only
+   * presized if the Iterable is a Collection.
+   *
+   * @param <T>     the content type of the results.
+   * @param results the results you wish to combine/merge/sum.
+   * @return ContinuedResultCombiner to chain more results or to merge/sum them.
+   */
+  static <T> ContinuedResultCombiner<T> combineAll(Iterable<? extends Result<T>> results) {
+    if (results instanceof Collection) {
+      return combineAll((Collection<? extends Result<T>>) results);
+    }
+    var combiner = new ContinuedResultToListCombiner<T>();
+    combiner.resolveAll(results);
+    return combiner;
+  }
+
+  /**
+   * Combines all given results on the common ForkJoinPool. Meant for very large lists of results.
+   * The outcome of merge/sum, including the order of the contents and the numbering of the
+   * messages, is the same as for {@link #combineAll(Collection)}.
+   *
+   * @param <T>     the content type of the results.
+   * @param results the results you wish to combine/merge/sum.
+   * @return ContinuedResultCombiner to chain more results or to merge/sum them.
+   */
+  static <T> ContinuedResultCombiner<T> combineAllParallel(List<? extends Result<T>> results) {
+    return combineAllParallel(results, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Combines all given results on the given ForkJoinPool. See {@link #combineAllParallel(List)}.
+   *
+   * @param <T>          the content type of the results.
+   * @param results      the results you wish to combine/merge/sum.
+   * @param forkJoinPool the pool to resolve the results on.
+   * @return ContinuedResultCombiner to chain more results or to merge/sum them.
+   */
+  static <T> ContinuedResultCombiner<T> combineAllParallel(List<? extends Result<T>> results,
+                                                           ForkJoinPool forkJoinPool) {
+    return ParallelResultCombiner.combine(results, forkJoinPool);
+  }
+
+  /**
+   * A Collector that merges a stream of results. The outcome is the same as calling
+   * {@link ContinuedResultCombiner#merge()} on {@link #combineAll(Collection)}. Encounter order is
+   * retained, also for parallel streams.
+   *
+   * @param <T> the content type of the results.
+   * @return Collector producing a Result containing a List of T.
+   */
+  static <T> Collector<Result<T>, ?, Result<List<T>>> merging() {
+    return Collector.of(
+            ContinuedResultToListCombiner<T>::new,
+            ContinuedResultToListCombiner::resolve,
+            (left, right) -> {
+              left.absorb(right);
+              return left;
+            },
+            ContinuedResultToListCombiner::merge);
+  }
+
+  /**
+   * A Collector that folds the contents of a stream of results with the given downstream Collector,
+   * without building a List. A successful outcome contains the result of the downstream Collector,
+   * an unsuccessful outcome is the same as for {@link #merging()}.
+   *
+   * @param downstream the Collector which folds the contents.
+   * @param <T>        the content type of the results.
+   * @param <A>        the mutable accumulation type of the downstream Collector.
+   * @param <R>        the result type of the downstream Collector.
+   * @return Collector producing a Result containing the folded contents.
+   */
+  static <T, A, R> Collector<Result<T>, ?, Result<R>> merging(Collector<? super T, A, R> downstream) {
+    return Collector.of(
+            () -> new ResultToValueCombiner<T, A, R>(downstream),
+            ResultToValueCombiner::resolve,
+            (left, right) -> {
+              left.absorb(right);
+              return left;
+            },
+            ResultToValueCombiner::merge);
+  }
+
   private static <T> Result<T> resultOf(ResultStatus resultStatus, String message) {
+    if (Message.NOTHING_TO_REPORT.equals(message)) {
+      return ResultMetricsRegistry.created(emptyResultOf(resultStatus));
+    }
     return resultOf(resultStatus, message, null);
   }
 
+  private static <T> Result<T> causedErrorOf(String message, Throwable cause) {
+    return ResultMetricsRegistry.created(new ErrorOccurredResult<>(message, cause));
+  }
+
+  private static <T> Result<T> emptyResultOf(ResultStatus resultStatus) {
+    switch (resultStatus) {
+      case SUCCESS:
+        return SuccessResult.empty();
+      case UNAUTHORIZED:
+        return UnauthorizedResult.empty();
+      case NOT_FOUND:
+        return NotFoundResult.empty();
+      case ERROR_OCCURRED:
+        return ErrorOccurredResult.empty();
+      default:
+        return UnprocessableResult.empty();
+    }
+  }
+
   private static <T> Result<T> resultOf(ResultStatus resultStatus, String message, T content) {
     switch (resultStatus) {
       case SUCCESS:
@@ -289,4 +669,126 @@ public interface Result<T> {
    * @return the message of the result if present.
    */
   String getMessage();
+
+  /**
+   * Get the exception that caused an error occurred Result. Results created by
+   * {@link #errorOccurred(String, String...)} have no cause.
+   *
+   * @return the cause of the result. Can be null.
+   */
+  default Throwable getCause() {
+    return null;
+  }
+
+  /**
+   * @return the separate messages of the result. For a combined result, these are the messages of
+   * the underlying unsuccessful results. Otherwise, it is a List containing only the message.
+   */
+  default List<String> getMessages() {
+    return Collections.singletonList(getMessage());
+  }
+
+  /**
+   * Every attempt that was made to produce this Result, in order. The last attempt is the one this
+   * Result was produced by. Only a Result produced by a {@link ResultPolicy} can have more than one
+   * attempt.
+   *
+   * @return the attempts.
+   */
+  default List<Result<T>> getAttempts() {
+    return Collections.singletonList(this);
+  }
+
+  /**
+   * Applies the mapper to the contents of a successful Result. The contents can be null. An
+   * unsuccessful Result is returned as is, without calling the mapper.
+   *
+   * @param mapper the function to apply to the contents.
+   * @param <R>    the content type of the new Result.
+   * @return a success Result with the mapped contents, or this Result if it is unsuccessful.
+   */
+  default <R> Result<R> map(Function<? super T, ? extends R> mapper) {
+    return isSuccessful() ? new SuccessResult<>(mapper.apply(getContents())) : retyped();
+  }
+
+  /**
+   * Applies the mapper to the contents of a successful Result and returns the Result it produces.
+   * The contents can be null. An unsuccessful Result is returned as is, without calling the mapper.
+   *
+   * @param mapper the function to apply to the contents.
+   * @param <R>    the content type of the new Result.
+   * @return the Result of the mapper, or this Result if it is unsuccessful.
+   */
+  default <R> Result<R> flatMap(Function<? super T, ? extends Result<R>> mapper) {
+    return isSuccessful() ? mapper.apply(getContents()) : retyped();
+  }
+
+  /**
+   * Tests the contents of a successful Result. The contents can be null.
+   *
+   * @param predicate the predicate which to apply to the contents.
+   * @return this Result if it is unsuccessful or the predicate resolves to true, an unprocessable
+   * Result without a message otherwise.
+   */
+  default Result<T> filter(Predicate<? super T> predicate) {
+    return isUnsuccessful() || predicate.test(getContents()) ? this : UnprocessableResult.empty();
+  }
+
+  /**
+   * Tests the contents of a successful Result. The contents can be null.
+   *
+   * @param predicate       the predicate which to apply to the contents.
+   * @param message         the message of the unprocessable Result.
+   * @param formatArguments the message arguments you with to replace the '%s' symbol with.
+   * @return this Result if it is unsuccessful or the predicate resolves to true, an unprocessable
+   * Result with the message otherwise.
+   */
+  default Result<T> filter(Predicate<? super T> predicate, String message, String... formatArguments) {
+    return isUnsuccessful() || predicate.test(getContents())
+            ? this
+            : new UnprocessableResult<>(message, formatArguments);
+  }
+
+  /**
+   * Replaces an unsuccessful Result with a success Result containing the recovered contents. A
+   * successful Result is returned as is, without calling the recovery function.
+   *
+   * @param recovery the function which receives the unsuccessful Result and returns new contents.
+   * @return this Result if it is successful, a success Result with the recovered contents otherwise.
+   */
+  default Result<T> recover(Function<? super Result<T>, ? extends T> recovery) {
+    return isSuccessful() ? this : new SuccessResult<>(recovery.apply(this));
+  }
+
+  /**
+   * Replaces an unsuccessful Result with the Result of the recovery function. A successful Result
+   * is returned as is, without calling the recovery function.
+   *
+   * @param recovery the function which receives the unsuccessful Result and returns a new Result.
+   * @return this Result if it is successful, the Result of the recovery function otherwise.
+   */
+  default Result<T> recoverWith(Function<? super Result<T>, ? extends Result<T>> recovery) {
+    return isSuccessful() ? this : recovery.apply(this);
+  }
+
+  /**
+   * Reduces the Result to a single value.
+   *
+   * @param onSuccess the function to apply to the contents of a successful Result.
+   * @param onFailure the function to apply to an unsuccessful Result.
+   * @param <R>       the type of the value.
+   * @return the value produced by one of the functions.
+   */
+  default <R> R fold(Function<? super T, ? extends R> onSuccess,
+                     Function<? super Result<T>, ? extends R> onFailure) {
+    return isSuccessful() ? onSuccess.apply(getContents()) : onFailure.apply(this);
+  }
+
+  /**
+   * Unsuccessful results never have contents, so they can safely be used for any content type.
+   */
+  @SuppressWarnings("unchecked")
+  private <R> Result<R> retyped() {
+    return (Result<R>) this;
+  }
 }
@@ -0,0 +1,326 @@
+package com.compilit.results;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes Results by key. How long a Result is kept depends on its status: successful Results are
+ * kept for the success TTL, unsuccessful Results for the failure TTL, which allows negative caching
+ * of not found Results, and error occurred Results for the error TTL. A TTL of zero means Results
+ * with that status are not kept at all.
+ *
+ * <p>Loading is single-flight: while a Result is loaded for a key, concurrent calls for the same key
+ * wait for that Result instead of loading it again. This also holds for Results that are not kept.
+ * A loader must not get the Result for its own key, that call throws an IllegalStateException
+ * instead of waiting for itself. Loaders on different threads that wait for each other's keys still
+ * deadlock.</p>
+ *
+ * <p>The number of kept Results is bounded by the maximum size. Once it is exceeded, expired Results
+ * are removed first, and otherwise the Result that expires soonest among a small random sample, so
+ * the size bound is approximate under concurrent loading.</p>
+ *
+ * @param <K> the type of the keys.
+ * @param <T> the content type of the Results.
+ */
+public final class ResultCache<K, T> {
+
+  private static final int EVICTION_SAMPLE_SIZE = 8;
+
+  private final Map<K, Entry<T>> entries = new ConcurrentHashMap<>();
+  private final int maximumSize;
+  private final long successTtlNanos;
+  private final long failureTtlNanos;
+  private final long errorTtlNanos;
+  private final LongSupplier nanoTime;
+
+  private ResultCache(Builder builder) {
+    this.maximumSize = builder.maximumSize;
+    this.successTtlNanos = builder.successTtl.toNanos();
+    this.failureTtlNanos = builder.failureTtl.toNanos();
+    this.errorTtlNanos = builder.errorTtl.toNanos();
+    this.nanoTime = builder.nanoTime;
+  }
+
+  /**
+   * @return a Builder with a maximum size of 1024, a success TTL of one minute, and no caching of
+   * unsuccessful Results.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the kept Result for the key, or loads it. If the loader throws an Exception, the Result
+   * is an ErrorOccurredResult with the exception as cause, like {@link Result#resultOf(Supplier)}.
+   *
+   * @param key    the key.
+   * @param loader the function which produces the Result for the key.
+   * @return the kept or loaded Result.
+   * @throws IllegalStateException if called by the loader of the same key.
+   */
+  public Result<T> get(K key, Function<? super K, ? extends Result<T>> loader) {
+    while (true) {
+      var entry = entries.get(key);
+      if (entry != null && !entry.isExpired(nanoTime.getAsLong())) {
+        if (entry.loadingThread == Thread.currentThread()) {
+          throw new IllegalStateException("The loader for key " + key + " called get for the same key");
+        }
+        return entry.join();
+      }
+      var loadingEntry = new Entry<T>();
+      var isLoading = entry == null
+              ? entries.putIfAbsent(key, loadingEntry) == null
+              : entries.replace(key, entry, loadingEntry);
+      if (isLoading) {
+        evictIfFull();
+        return load(key, loadingEntry, loader);
+      }
+    }
+  }
+
+  /**
+   * Memoized variant of {@link Result#resultOf(Supplier)}.
+   *
+   * @param key      the key.
+   * @param supplier the content-supplying function.
+   * @return the kept or loaded Result.
+   */
+  public Result<T> resultOf(K key, Supplier<T> supplier) {
+    return get(key, ignored -> Result.resultOf(supplier));
+  }
+
+  /**
+   * Memoized variant of {@link Result#resultOf(Predicate, Object)}.
+   *
+   * @param key       the key.
+   * @param predicate the predicate which to apply to the value.
+   * @param value     the value which needs to be tested by the predicate.
+   * @return the kept or loaded Result.
+   */
+  public Result<T> resultOf(K key, Predicate<T> predicate, T value) {
+    return get(key, ignored -> Result.resultOf(predicate, value));
+  }
+
+  /**
+   * Removes the kept Result for the key. A load that is in progress still completes for the callers
+   * that are waiting for it, but its Result is not kept.
+   *
+   * @param key the key.
+   */
+  public void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  /**
+   * @return the number of kept Results, including the ones that are loading or expired.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  private Result<T> load(K key, Entry<T> entry, Function<? super K, ? extends Result<T>> loader) {
+    Result<T> result;
+    try {
+      result = loader.apply(key);
+      if (result == null) {
+        result = Result.errorOccurred(Message.LOADER_WITHOUT_RESULT, String.valueOf(key));
+      }
+    } catch (Exception exception) {
+      result = Result.fromException(exception);
+    } catch (Throwable throwable) {
+      entry.loadingThread = null;
+      entries.remove(key, entry);
+      entry.future.complete(Result.fromException(throwable));
+      throw throwable;
+    }
+    entry.loadingThread = null;
+    var ttlNanos = ttlNanosOf(result.getResultStatus());
+    if (ttlNanos > 0) {
+      entry.expiresAt = nanoTime.getAsLong() + ttlNanos;
+    } else {
+      entries.remove(key, entry);
+    }
+    entry.future.complete(result);
+    return result;
+  }
+
+  private long ttlNanosOf(ResultStatus resultStatus) {
+    switch (resultStatus) {
+      case SUCCESS:
+        return successTtlNanos;
+      case ERROR_OCCURRED:
+        return errorTtlNanos;
+      default:
+        return failureTtlNanos;
+    }
+  }
+
+  private void evictIfFull() {
+    if (entries.size() <= maximumSize) {
+      return;
+    }
+    if (!evictFrom(randomRange())) {
+      evictFrom(entries.entrySet().iterator());
+    }
+  }
+
+  /**
+   * Removes the expired Results among a sample, or otherwise the Result that expires soonest.
+   *
+   * @param sample the kept Results to sample from.
+   * @return false if the sample had no Result that could be removed.
+   */
+  private boolean evictFrom(Iterator<Map.Entry<K, Entry<T>>> sample) {
+    var now = nanoTime.getAsLong();
+    K candidateKey = null;
+    Entry<T> candidate = null;
+    var isRemoved = false;
+    var sampled = 0;
+    while (sample.hasNext() && sampled < EVICTION_SAMPLE_SIZE) {
+      var mapEntry = sample.next();
+      var entry = mapEntry.getValue();
+      if (!entry.future.isDone()) {
+        continue;
+      }
+      if (entry.isExpired(now)) {
+        isRemoved |= entries.remove(mapEntry.getKey(), entry);
+        if (entries.size() <= maximumSize) {
+          return true;
+        }
+        continue;
+      }
+      if (candidate == null || entry.expiresAt - candidate.expiresAt < 0) {
+        candidateKey = mapEntry.getKey();
+        candidate = entry;
+      }
+      sampled++;
+    }
+    if (candidate != null) {
+      isRemoved |= entries.remove(candidateKey, candidate);
+    }
+    return isRemoved;
+  }
+
+  /**
+   * The map has no random access, but its Spliterator splits the hash table into halves. Picking a
+   * random half until about a sample is left gives a random range of buckets, without iterating
+   * over the entries before it.
+   */
+  private Iterator<Map.Entry<K, Entry<T>>> randomRange() {
+    var random = ThreadLocalRandom.current();
+    var spliterator = entries.entrySet().spliterator();
+    for (var remaining = spliterator.estimateSize(); remaining > EVICTION_SAMPLE_SIZE; remaining >>>= 1) {
+      var prefix = spliterator.trySplit();
+      if (prefix == null) {
+        break;
+      }
+      if (random.nextBoolean()) {
+        spliterator = prefix;
+      }
+    }
+    return Spliterators.iterator(spliterator);
+  }
+
+  private static final class Entry<T> {
+
+    private final CompletableFuture<Result<T>> future = new CompletableFuture<>();
+    private volatile long expiresAt;
+    private volatile Thread loadingThread = Thread.currentThread();
+
+    /**
+     * A loading entry never expires. The expiry is written before the future completes, so it is
+     * visible once the future is done.
+     */
+    boolean isExpired(long now) {
+      return future.isDone() && expiresAt - now <= 0;
+    }
+
+    Result<T> join() {
+      return future.join();
+    }
+
+  }
+
+  public static final class Builder {
+
+    private int maximumSize = 1024;
+    private Duration successTtl = Duration.ofMinutes(1);
+    private Duration failureTtl = Duration.ZERO;
+    private Duration errorTtl = Duration.ZERO;
+    private LongSupplier nanoTime = System::nanoTime;
+
+    private Builder() {
+    }
+
+    /**
+     * @param maximumSize the maximum number of kept Results.
+     * @return this Builder.
+     */
+    public Builder maximumSize(int maximumSize) {
+      if (maximumSize < 1) {
+        throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+      }
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /**
+     * @param successTtl how long successful Results are kept.
+     * @return this Builder.
+     */
+    public Builder successTtl(Duration successTtl) {
+      this.successTtl = requireTtl(successTtl);
+      return this;
+    }
+
+    /**
+     * @param failureTtl how long not found, unprocessable and unauthorized Results are kept.
+     * @return this Builder.
+     */
+    public Builder failureTtl(Duration failureTtl) {
+      this.failureTtl = requireTtl(failureTtl);
+      return this;
+    }
+
+    /**
+     * @param errorTtl how long error occurred Results are kept. Errors are often transient, so they
+     *                 are not kept by default.
+     * @return this Builder.
+     */
+    public Builder errorTtl(Duration errorTtl) {
+      this.errorTtl = requireTtl(errorTtl);
+      return this;
+    }
+
+    Builder nanoTime(LongSupplier nanoTime) {
+      this.nanoTime = nanoTime;
+      return this;
+    }
+
+    public <K, T> ResultCache<K, T> build() {
+      return new ResultCache<>(this);
+    }
+
+    private static Duration requireTtl(Duration ttl) {
+      if (ttl == null || ttl.isNegative()) {
+        throw new IllegalArgumentException("A TTL cannot be null or negative: " + ttl);
+      }
+      return ttl;
+    }
+
+  }
+
+}
@@ -0,0 +1,218 @@
+package com.compilit.results;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes Results in a compact binary format, and decodes them again.
+ *
+ * <p>An encoded Result starts with a single header byte. The low four bits hold the status, the
+ * next two bits tell what follows the header:</p>
+ * <ul>
+ *   <li>nothing, for a Result without contents and with the default message;</li>
+ *   <li>the message, as a variable-length byte count followed by its UTF-8 bytes;</li>
+ *   <li>the code of a {@link MessageCode}, in the same format, for the shared Result of a message
+ *   code;</li>
+ *   <li>the contents, in the format of the {@link ContentCodec}.</li>
+ * </ul>
+ *
+ * <p>Only the status, the message and the contents are encoded. The cause of a Result is not, and
+ * the messages of a combined Result are encoded as its single combined message. A message code
+ * that is not defined on the decoding side decodes into a Result with the code as message.</p>
+ *
+ * @param <T> the type of the contents.
+ */
+public final class ResultCodec<T> {
+
+  private static final ResultStatus[] STATUSES = {
+          ResultStatus.SUCCESS,
+          ResultStatus.UNPROCESSABLE,
+          ResultStatus.UNAUTHORIZED,
+          ResultStatus.NOT_FOUND,
+          ResultStatus.ERROR_OCCURRED
+  };
+  private static final int STATUS_MASK = 0x0F;
+  private static final int PAYLOAD_MASK = 0x30;
+  private static final int NO_PAYLOAD = 0x00;
+  private static final int MESSAGE = 0x10;
+  private static final int MESSAGE_CODE = 0x20;
+  private static final int CONTENTS = 0x30;
+  private static final ResultCodec<?> WITHOUT_CONTENTS = new ResultCodec<>(null);
+
+  private final ContentCodec<T> contentCodec;
+
+  private ResultCodec(ContentCodec<T> contentCodec) {
+    this.contentCodec = contentCodec;
+  }
+
+  /**
+   * @param contentCodec the codec for the contents of successful Results.
+   * @param <T>          the type of the contents.
+   * @return a ResultCodec.
+   */
+  public static <T> ResultCodec<T> of(ContentCodec<T> contentCodec) {
+    return new ResultCodec<>(contentCodec);
+  }
+
+  /**
+   * @param <T> the type of the contents.
+   * @return a shared ResultCodec for Results without contents. Encoding a Result with contents
+   * throws an IllegalArgumentException.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> ResultCodec<T> withoutContents() {
+    return (ResultCodec<T>) WITHOUT_CONTENTS;
+  }
+
+  /**
+   * @param result the Result to encode.
+   * @return the exact number of bytes {@link #encode(Result, ByteBuffer)} writes for the Result.
+   */
+  public int encodedSize(Result<T> result) {
+    var contents = result.getContents();
+    if (contents != null) {
+      return 1 + contentCodec(result).encodedSize(contents);
+    }
+    var messageCode = MessageCode.sharedBy(result);
+    if (messageCode != null) {
+      return 1 + stringSize(messageCode.getCode());
+    }
+    var message = result.getMessage();
+    return Message.NOTHING_TO_REPORT.equals(message) ? 1 : 1 + stringSize(message);
+  }
+
+  /**
+   * Writes the Result at the position of the buffer, and advances the position.
+   *
+   * @param result the Result to encode.
+   * @param buffer the buffer to write to.
+   * @throws BufferOverflowException if the buffer has too few bytes remaining, in which case
+   *                                 nothing is written.
+   */
+  public void encode(Result<T> result, ByteBuffer buffer) {
+    if (buffer.remaining() < encodedSize(result)) {
+      throw new BufferOverflowException();
+    }
+    var status = statusId(result.getResultStatus());
+    var contents = result.getContents();
+    if (contents != null) {
+      buffer.put((byte) (CONTENTS | status));
+      contentCodec(result).encode(contents, buffer);
+      return;
+    }
+    var messageCode = MessageCode.sharedBy(result);
+    if (messageCode != null) {
+      buffer.put((byte) (MESSAGE_CODE | status));
+      WireFormat.putUtf8(messageCode.getCode(), buffer);
+      return;
+    }
+    var message = result.getMessage();
+    if (Message.NOTHING_TO_REPORT.equals(message)) {
+      buffer.put((byte) (NO_PAYLOAD | status));
+    } else {
+      buffer.put((byte) (MESSAGE | status));
+      WireFormat.putUtf8(message, buffer);
+    }
+  }
+
+  /**
+   * @param result the Result to encode.
+   * @return a new buffer holding exactly the encoded Result, ready to be read.
+   */
+  public ByteBuffer encode(Result<T> result) {
+    var buffer = ByteBuffer.allocate(encodedSize(result));
+    encode(result, buffer);
+    return buffer.flip();
+  }
+
+  /**
+   * Reads a Result at the position of the buffer, and advances the position past it. A Result
+   * without contents and with the default message, or with a known message code, decodes into the
+   * shared Result for its status and message code.
+   *
+   * @param buffer the buffer to read from.
+   * @return the decoded Result.
+   * @throws IllegalArgumentException          if the bytes are not an encoded Result.
+   * @throws java.nio.BufferUnderflowException if the encoded Result is truncated.
+   */
+  public Result<T> decode(ByteBuffer buffer) {
+    var header = buffer.get();
+    var statusId = header & STATUS_MASK;
+    if (statusId >= STATUSES.length || (header & ~(STATUS_MASK | PAYLOAD_MASK)) != 0) {
+      throw new IllegalArgumentException("Malformed header in encoded Result: " + header);
+    }
+    var resultStatus = STATUSES[statusId];
+    var payload = header & PAYLOAD_MASK;
+    if (payload == NO_PAYLOAD) {
+      return emptyResultOf(resultStatus);
+    }
+    if (payload == CONTENTS) {
+      if (resultStatus != ResultStatus.SUCCESS || contentCodec == null) {
+        throw new IllegalArgumentException("Unexpected contents in encoded " + resultStatus + " Result");
+      }
+      return new SuccessResult<>(contentCodec.decode(buffer));
+    }
+    if (resultStatus == ResultStatus.SUCCESS) {
+      throw new IllegalArgumentException("Unexpected message in encoded SUCCESS Result");
+    }
+    var message = WireFormat.getUtf8(buffer);
+    if (payload == MESSAGE_CODE) {
+      var messageCode = MessageCode.forCode(message);
+      if (messageCode.isPresent()) {
+        return messageCode.get().resultOf(resultStatus);
+      }
+    }
+    return failureOf(resultStatus, message);
+  }
+
+  private ContentCodec<T> contentCodec(Result<T> result) {
+    if (contentCodec == null) {
+      throw new IllegalArgumentException(
+              "Cannot encode the contents of a " + result.getResultStatus() + " Result without a ContentCodec");
+    }
+    return contentCodec;
+  }
+
+  private static int stringSize(String value) {
+    var length = WireFormat.utf8Length(value);
+    return WireFormat.varIntSize(length) + length;
+  }
+
+  private static int statusId(ResultStatus resultStatus) {
+    for (int index = 0; index < STATUSES.length; index++) {
+      if (STATUSES[index] == resultStatus) {
+        return index;
+      }
+    }
+    throw new IllegalArgumentException("Unknown status " + resultStatus);
+  }
+
+  private static <T> Result<T> emptyResultOf(ResultStatus resultStatus) {
+    switch (resultStatus) {
+      case SUCCESS:
+        return SuccessResult.empty();
+      case UNAUTHORIZED:
+        return UnauthorizedResult.empty();
+      case NOT_FOUND:
+        return NotFoundResult.empty();
+      case ERROR_OCCURRED:
+        return ErrorOccurredResult.empty();
+      default:
+        return UnprocessableResult.empty();
+    }
+  }
+
+  private static <T> Result<T> failureOf(ResultStatus resultStatus, String message) {
+    switch (resultStatus) {
+      case UNAUTHORIZED:
+        return new UnauthorizedResult<>(message);
+      case NOT_FOUND:
+        return new NotFoundResult<>(message);
+      case ERROR_OCCURRED:
+        return new ErrorOccurredResult<>(message);
+      default:
+        return new UnprocessableResult<>(message);
+    }
+  }
+
+}
@@ -1,5 +1,7 @@
 package com.compilit.results;
 
+import java.util.function.Supplier;
+
 public interface ResultCombiner<T> {
 
   /**
@@ -8,4 +10,15 @@ public interface ResultCombiner<T> {
    */
   ContinuedResultCombiner<T> with(Result<T> result);
 
+  /**
+   * Lazy variant of {@link #with(Result)}. A fail-fast combiner does not call the supplier if an
+   * unsuccessful result was already combined.
+   *
+   * @param resultSupplier supplies the next result you wish to combine with the previous.
+   * @return ResultCombiner to chain the next result.
+   */
+  default ContinuedResultCombiner<T> with(Supplier<? extends Result<T>> resultSupplier) {
+    return with(resultSupplier.get());
+  }
+
 }
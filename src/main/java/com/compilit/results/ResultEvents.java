@@ -0,0 +1,76 @@
+package com.compilit.results;
+
+import java.util.Map;
+
+/**
+ * The only entry point to the Flight Recorder events of the library. The event classes extend
+ * {@code jdk.jfr.Event}, so the rest of the library never calls them directly. Whether the jdk.jfr
+ * module is present is checked once. Without it, every method is a no-op and the event classes are
+ * never loaded.
+ */
+final class ResultEvents {
+
+  static final String MERGE = "merge";
+  static final String SUM = "sum";
+
+  private static final boolean IS_FLIGHT_RECORDER_PRESENT = isFlightRecorderPresent();
+
+  private ResultEvents() {
+  }
+
+  static void errorOccurred(Result<?> result, Throwable cause) {
+    if (IS_FLIGHT_RECORDER_PRESENT) {
+      ErrorOccurredEvent.emit(result, cause);
+    }
+  }
+
+  /**
+   * @return a started event for a process wrapped by {@code Result.resultOf}, or null if there is no
+   * Flight Recorder.
+   */
+  static ResultOfEvent startResultOf() {
+    return IS_FLIGHT_RECORDER_PRESENT ? ResultOfEvent.start() : null;
+  }
+
+  /**
+   * @param event     the event returned by {@link #startResultOf()}.
+   * @param exception the exception thrown by the wrapped process.
+   * @param <T>       the content type.
+   * @return an error occurred Result with the exception as cause.
+   */
+  static <T> Result<T> resultOfCaught(ResultOfEvent event, Exception exception) {
+    return event == null ? Result.fromException(exception) : ResultOfEvent.caught(event, exception);
+  }
+
+  /**
+   * @return a started combine event, or null if there is no Flight Recorder or the event is disabled.
+   */
+  static CombineEvent beginCombine() {
+    return IS_FLIGHT_RECORDER_PRESENT ? CombineEvent.beginIfEnabled() : null;
+  }
+
+  /**
+   * @param event        the event returned by {@link #beginCombine()}, can be null.
+   * @param operation    the operation which ended the combination.
+   * @param result       the combined Result.
+   * @param statusCounts the number of combined results per status.
+   */
+  static void combined(CombineEvent event,
+                       String operation,
+                       Result<?> result,
+                       Map<ResultStatus, Integer> statusCounts) {
+    if (event != null) {
+      event.record(operation, result, statusCounts);
+    }
+  }
+
+  private static boolean isFlightRecorderPresent() {
+    try {
+      Class.forName("jdk.jfr.Event", false, ResultEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError exception) {
+      return false;
+    }
+  }
+
+}
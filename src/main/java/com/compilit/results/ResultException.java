@@ -0,0 +1,27 @@
+package com.compilit.results;
+
+/**
+ * A RuntimeException without a stack trace. Creating it costs no more than creating any other
+ * object, which makes it suitable for exception-driven validation on hot paths, for example as the
+ * exception passed to {@link Result#fromException(Throwable)}.
+ */
+public class ResultException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * @param message the detail message.
+   */
+  public ResultException(String message) {
+    super(message, null, true, false);
+  }
+
+  /**
+   * @param message the detail message.
+   * @param cause   the underlying cause.
+   */
+  public ResultException(String message, Throwable cause) {
+    super(message, cause, true, false);
+  }
+
+}
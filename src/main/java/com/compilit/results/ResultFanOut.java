@@ -0,0 +1,151 @@
+package com.compilit.results;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Runs Result-producing tasks concurrently. On Java 21+ every task gets its own virtual thread. On
+ * older runtimes, which this library still supports, the tasks run on a cached pool of daemon
+ * threads. The virtual thread executor is looked up reflectively, so no multi-release jar is
+ * needed.
+ */
+final class ResultFanOut<T> {
+
+  private static final ExecutorService EXECUTOR = createExecutor();
+
+  private final List<? extends Callable<Result<T>>> tasks;
+  private final Result<T>[] results;
+  private final boolean[] isCollected;
+  private final List<Future<?>> futures;
+  private final BlockingQueue<Integer> completedTasks = new LinkedBlockingQueue<>();
+  private Duration expiredTimeout;
+  private boolean isInterrupted;
+  private Result<T> stopResult;
+
+  @SuppressWarnings("unchecked")
+  private ResultFanOut(List<? extends Callable<Result<T>>> tasks) {
+    this.tasks = tasks;
+    this.results = (Result<T>[]) new Result<?>[tasks.size()];
+    this.isCollected = new boolean[tasks.size()];
+    this.futures = new ArrayList<>(tasks.size());
+  }
+
+  static <T> Result<List<T>> allOf(List<? extends Callable<Result<T>>> tasks,
+                                   Duration timeout,
+                                   boolean cancelOnFailure) {
+    var fanOut = new ResultFanOut<T>(tasks);
+    fanOut.run(timeout, cancelOnFailure ? Result::isUnsuccessful : result -> false);
+    return fanOut.combine().merge(AggregationPolicy.MOST_SEVERE);
+  }
+
+  static <T> Result<T> anyOf(List<? extends Callable<Result<T>>> tasks, Duration timeout) {
+    if (tasks.isEmpty()) {
+      return new UnprocessableResult<>(Message.NO_TASKS);
+    }
+    var fanOut = new ResultFanOut<T>(tasks);
+    fanOut.run(timeout, Result::isSuccessful);
+    if (fanOut.stopResult != null) {
+      return fanOut.stopResult;
+    }
+    return fanOut.combine().sum(AggregationPolicy.MOST_SEVERE);
+  }
+
+  /**
+   * Starts all tasks and collects their results as they complete, until all are collected, one of
+   * them matches the stop condition or the timeout expires. Unfinished tasks are then cancelled.
+   */
+  private void run(Duration timeout, Predicate<Result<T>> stopCondition) {
+    for (int index = 0; index < tasks.size(); index++) {
+      var taskIndex = index;
+      futures.add(EXECUTOR.submit(() -> execute(taskIndex)));
+    }
+    var deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+    try {
+      for (int collected = 0; collected < tasks.size(); collected++) {
+        var taskIndex = timeout == null
+                ? completedTasks.take()
+                : completedTasks.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (taskIndex == null) {
+          expiredTimeout = timeout;
+          break;
+        }
+        isCollected[taskIndex] = true;
+        if (stopCondition.test(results[taskIndex])) {
+          stopResult = results[taskIndex];
+          break;
+        }
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      isInterrupted = true;
+    } finally {
+      for (var future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private void execute(int taskIndex) {
+    try {
+      var result = tasks.get(taskIndex).call();
+      results[taskIndex] = result != null
+              ? result
+              : Result.errorOccurred(Message.TASK_WITHOUT_RESULT, String.valueOf(taskIndex));
+    } catch (Throwable throwable) {
+      results[taskIndex] = Result.fromException(throwable);
+    } finally {
+      completedTasks.add(taskIndex);
+    }
+  }
+
+  /**
+   * Resolves the collected results in task order. Tasks that did not finish because of a timeout or
+   * an interrupt are resolved as error occurred results. Tasks that were cancelled because another
+   * task matched the stop condition are left out.
+   */
+  private ContinuedResultToListCombiner<T> combine() {
+    var combiner = new ContinuedResultToListCombiner<T>(tasks.size());
+    for (int index = 0; index < tasks.size(); index++) {
+      var taskIndex = String.valueOf(index);
+      if (isCollected[index]) {
+        combiner.resolve(results[index]);
+      } else if (expiredTimeout != null) {
+        var timeout = expiredTimeout.toString();
+        combiner.resolve(Result.errorOccurred(Message.TASK_TIMED_OUT, taskIndex, timeout));
+      } else if (isInterrupted) {
+        combiner.resolve(Result.errorOccurred(Message.TASK_INTERRUPTED, taskIndex));
+      }
+    }
+    return combiner;
+  }
+
+  /**
+   * @return the shared executor, which runs every task on its own virtual thread where available.
+   */
+  static ExecutorService executor() {
+    return EXECUTOR;
+  }
+
+  private static ExecutorService createExecutor() {
+    try {
+      var factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factoryMethod.invoke(null);
+    } catch (ReflectiveOperationException exception) {
+      return Executors.newCachedThreadPool(runnable -> {
+        var thread = new Thread(runnable, "compilit-results-fan-out");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+}
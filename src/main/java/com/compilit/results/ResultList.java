@@ -0,0 +1,39 @@
+package com.compilit.results;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable view on the first elements of a combiner's backing array. The combiner only ever
+ * appends beyond the viewed range, so the view does not change once it is handed out.
+ */
+final class ResultList<T> extends AbstractList<T> implements RandomAccess {
+
+  private final Object[] elements;
+  private final int size;
+
+  ResultList(Object[] elements, int size) {
+    this.elements = elements;
+    this.size = size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    Objects.checkIndex(index, size);
+    return (T) elements[index];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Object[] toArray() {
+    return Arrays.copyOf(elements, size);
+  }
+
+}
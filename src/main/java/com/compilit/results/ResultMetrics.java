@@ -0,0 +1,76 @@
+package com.compilit.results;
+
+/**
+ * Receives counts and timings from the library. By default no metrics are recorded: the installed
+ * ResultMetrics does nothing, and reports that it does not want timings, so the JIT reduces every
+ * hook to a field read.
+ *
+ * <p>An implementation is picked up through {@link java.util.ServiceLoader} when the library is
+ * first used, or installed with {@link #install(ResultMetrics)}. Implementations are called on the
+ * hot path from any thread, so they must be thread-safe and should not block or contend, see
+ * {@link #inMemory()}.</p>
+ */
+public interface ResultMetrics {
+
+  /**
+   * Called by every static factory of {@link Result}, including the ones that return a shared
+   * instance.
+   *
+   * @param resultStatus the status of the created Result.
+   */
+  void recordCreated(ResultStatus resultStatus);
+
+  /**
+   * Called for every Result that a combiner resolves.
+   *
+   * @param resultStatus the status of the resolved Result.
+   */
+  void recordResolved(ResultStatus resultStatus);
+
+  /**
+   * Called by {@link Result#resultOf(Runnable)} and {@link Result#resultOf(java.util.function.Supplier)}
+   * with the time spent in the wrapped process, if {@link #isTimingEnabled()}.
+   *
+   * @param resultStatus  the status of the Result the process produced.
+   * @param durationNanos the duration of the process, in nanoseconds.
+   */
+  void recordDuration(ResultStatus resultStatus, long durationNanos);
+
+  /**
+   * @return false to skip reading the clock around wrapped processes.
+   */
+  default boolean isTimingEnabled() {
+    return true;
+  }
+
+  /**
+   * @return the ResultMetrics that records nothing.
+   */
+  static ResultMetrics noOp() {
+    return NoOpResultMetrics.INSTANCE;
+  }
+
+  /**
+   * @return a new ResultMetrics that keeps counts and timings in memory, per status.
+   */
+  static InMemoryResultMetrics inMemory() {
+    return new InMemoryResultMetrics();
+  }
+
+  /**
+   * Replaces the installed ResultMetrics for the whole application.
+   *
+   * @param resultMetrics the ResultMetrics to install, {@link #noOp()} to stop recording.
+   */
+  static void install(ResultMetrics resultMetrics) {
+    ResultMetricsRegistry.install(resultMetrics);
+  }
+
+  /**
+   * @return the installed ResultMetrics.
+   */
+  static ResultMetrics installed() {
+    return ResultMetricsRegistry.installed();
+  }
+
+}
@@ -0,0 +1,53 @@
+package com.compilit.results;
+
+import java.util.ServiceLoader;
+
+/**
+ * Holds the installed {@link ResultMetrics} and contains the hooks the library calls.
+ */
+final class ResultMetricsRegistry {
+
+  private static volatile ResultMetrics resultMetrics = load();
+
+  private ResultMetricsRegistry() {
+  }
+
+  static void install(ResultMetrics resultMetrics) {
+    if (resultMetrics == null) {
+      throw new IllegalArgumentException("Install ResultMetrics.noOp() to stop recording metrics");
+    }
+    ResultMetricsRegistry.resultMetrics = resultMetrics;
+  }
+
+  static ResultMetrics installed() {
+    return resultMetrics;
+  }
+
+  static <R extends Result<?>> R created(R result) {
+    resultMetrics.recordCreated(result.getResultStatus());
+    return result;
+  }
+
+  static void resolved(ResultStatus resultStatus) {
+    resultMetrics.recordResolved(resultStatus);
+  }
+
+  /**
+   * @return the start time for {@link #timed(Result, long)}, or 0 if timing is disabled.
+   */
+  static long startTime() {
+    return resultMetrics.isTimingEnabled() ? System.nanoTime() : 0L;
+  }
+
+  static <R extends Result<?>> R timed(R result, long startTime) {
+    if (startTime != 0L) {
+      resultMetrics.recordDuration(result.getResultStatus(), System.nanoTime() - startTime);
+    }
+    return result;
+  }
+
+  private static ResultMetrics load() {
+    return ServiceLoader.load(ResultMetrics.class).findFirst().orElse(NoOpResultMetrics.INSTANCE);
+  }
+
+}
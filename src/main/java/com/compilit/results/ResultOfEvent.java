@@ -0,0 +1,50 @@
+package com.compilit.results;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a process wrapped by {@code Result.resultOf} that threw an exception.
+ * The duration is the time spent in the process. Disabled by default.
+ */
+@Name("com.compilit.results.ResultOf")
+@Label("Result Of Exception")
+@Description("A process wrapped by Result.resultOf threw an exception")
+@Category("Compilit Results")
+@Enabled(false)
+final class ResultOfEvent extends Event {
+
+  @Label("Status")
+  String resultStatus;
+
+  @Label("Message Length")
+  int messageLength;
+
+  @Label("Exception Type")
+  Class<?> exceptionType;
+
+  /**
+   * @return a started event. When the event is disabled, this is a no-op the JIT can remove.
+   */
+  static ResultOfEvent start() {
+    var event = new ResultOfEvent();
+    event.begin();
+    return event;
+  }
+
+  static <T> Result<T> caught(ResultOfEvent event, Exception exception) {
+    Result<T> result = Result.fromException(exception);
+    if (event.shouldCommit()) {
+      event.resultStatus = result.getResultStatus().name();
+      event.messageLength = result.getMessage().length();
+      event.exceptionType = exception.getClass();
+      event.commit();
+    }
+    return result;
+  }
+
+}
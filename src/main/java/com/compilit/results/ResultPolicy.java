@@ -0,0 +1,303 @@
+package com.compilit.results;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Retries {@link Result#resultOf(Supplier)} while it produces an error occurred Result, with
+ * exponential backoff and jitter, up to a maximum number of attempts. Other unsuccessful Results are
+ * not retried. Each attempt can be given a timeout, after which it is interrupted and counts as an
+ * error occurred Result. The returned Result keeps all attempts, see {@link Result#getAttempts()}.
+ *
+ * <p>{@link #resultOf(Supplier)} waits on the calling thread, which is cheap on a virtual thread.
+ * {@link #resultOfAsync(Supplier)} never blocks: attempts run on the executor, and backoff delays and
+ * timeouts are handled by the scheduler. By default the executor runs every attempt on its own
+ * virtual thread on Java 21+, and on a cached pool of daemon threads on older runtimes.</p>
+ */
+public final class ResultPolicy {
+
+  private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+  private final int maxAttempts;
+  private final long initialBackoffNanos;
+  private final long maxBackoffNanos;
+  private final double multiplier;
+  private final double jitter;
+  private final Duration attemptTimeout;
+  private final ExecutorService executor;
+  private final ScheduledExecutorService scheduler;
+
+  private ResultPolicy(Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.initialBackoffNanos = builder.initialBackoff.toNanos();
+    this.maxBackoffNanos = builder.maxBackoff.toNanos();
+    this.multiplier = builder.multiplier;
+    this.jitter = builder.jitter;
+    this.attemptTimeout = builder.attemptTimeout;
+    this.executor = builder.executor;
+    this.scheduler = builder.scheduler;
+  }
+
+  /**
+   * @return a Builder with 3 attempts, a backoff starting at 100 milliseconds that doubles up to 10
+   * seconds with 50% jitter, and no attempt timeout.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Runs the supplier until it produces anything but an error occurred Result, or the attempts are
+   * used up. Waits on the calling thread between attempts. If the thread is interrupted, no further
+   * attempts are made.
+   *
+   * @param supplier the content-supplying function.
+   * @param <T>      the type of the contents.
+   * @return the Result of the last attempt, which keeps all attempts.
+   */
+  public <T> Result<T> resultOf(Supplier<T> supplier) {
+    var attempts = new ArrayList<Result<T>>(maxAttempts);
+    for (int attempt = 1; ; attempt++) {
+      var result = attempt(supplier, attempt);
+      attempts.add(result);
+      if (!isRetryable(result, attempt) || Thread.currentThread().isInterrupted()) {
+        return new RetriedResult<>(result, attempts);
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(backoffNanos(attempt));
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        return new RetriedResult<>(result, attempts);
+      }
+    }
+  }
+
+  /**
+   * Same as {@link #resultOf(Supplier)}, without blocking any thread between attempts.
+   *
+   * @param supplier the content-supplying function.
+   * @param <T>      the type of the contents.
+   * @return AsyncResult which completes with the Result of the last attempt, which keeps all
+   * attempts.
+   */
+  public <T> AsyncResult<T> resultOfAsync(Supplier<T> supplier) {
+    var outcome = new CompletableFuture<Result<T>>();
+    attemptAsync(supplier, 1, new ArrayList<>(maxAttempts), outcome);
+    return new AsyncResult<>(outcome);
+  }
+
+  private <T> Result<T> attempt(Supplier<T> supplier, int attempt) {
+    if (attemptTimeout == null) {
+      return Result.resultOf(supplier);
+    }
+    var future = executor.submit(() -> Result.resultOf(supplier));
+    try {
+      return future.get(attemptTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException exception) {
+      future.cancel(true);
+      return timedOut(attempt);
+    } catch (InterruptedException exception) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      return Result.errorOccurred(Message.ATTEMPT_INTERRUPTED, String.valueOf(attempt));
+    } catch (ExecutionException exception) {
+      return Result.fromException(exception.getCause());
+    }
+  }
+
+  /**
+   * Starts an attempt on the executor, and schedules its timeout. Whichever completes the attempt
+   * first wins: a timeout interrupts the attempt, a completed attempt makes the timeout a no-op. The
+   * next attempt is only scheduled once the previous one has completed, so the attempts list is
+   * never accessed concurrently.
+   */
+  private <T> void attemptAsync(Supplier<T> supplier,
+                                int attempt,
+                                List<Result<T>> attempts,
+                                CompletableFuture<Result<T>> outcome) {
+    try {
+      var attemptFuture = new CompletableFuture<Result<T>>();
+      var task = executor.submit(() -> {
+        try {
+          attemptFuture.complete(Result.resultOf(supplier));
+        } finally {
+          if (!attemptFuture.isDone()) {
+            attemptFuture.complete(
+                    Result.errorOccurred(Message.ATTEMPT_WITHOUT_RESULT, String.valueOf(attempt)));
+          }
+        }
+      });
+      if (attemptTimeout != null) {
+        var timeout = scheduler.schedule(() -> {
+          if (attemptFuture.complete(timedOut(attempt))) {
+            task.cancel(true);
+          }
+        }, attemptTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        attemptFuture.thenRun(() -> timeout.cancel(false));
+      }
+      attemptFuture.thenAccept(result -> {
+        attempts.add(result);
+        if (!isRetryable(result, attempt)) {
+          outcome.complete(new RetriedResult<>(result, attempts));
+          return;
+        }
+        try {
+          scheduler.schedule(() -> attemptAsync(supplier, attempt + 1, attempts, outcome),
+                  backoffNanos(attempt), TimeUnit.NANOSECONDS);
+        } catch (RuntimeException exception) {
+          outcome.complete(new RetriedResult<>(result, attempts));
+        }
+      });
+    } catch (RuntimeException exception) {
+      Result<T> result = Result.fromException(exception);
+      attempts.add(result);
+      outcome.complete(new RetriedResult<>(result, attempts));
+    }
+  }
+
+  private boolean isRetryable(Result<?> result, int attempt) {
+    return attempt < maxAttempts && result.getResultStatus() == ResultStatus.ERROR_OCCURRED;
+  }
+
+  /**
+   * @return the delay after the given attempt: the initial backoff multiplied for every earlier
+   * attempt, capped at the maximum backoff, and then reduced by a random fraction of at most the
+   * jitter.
+   */
+  private long backoffNanos(int attempt) {
+    var backoff = Math.min(initialBackoffNanos * Math.pow(multiplier, attempt - 1), maxBackoffNanos);
+    return (long) (backoff * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+  }
+
+  private <T> Result<T> timedOut(int attempt) {
+    return Result.errorOccurred(Message.ATTEMPT_TIMED_OUT, String.valueOf(attempt),
+            attemptTimeout.toString());
+  }
+
+  private static ScheduledExecutorService createScheduler() {
+    var scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      var thread = new Thread(runnable, "compilit-results-policy");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  /**
+   * Configures a ResultPolicy. Every setter validates its argument, so an invalid configuration
+   * fails where it is made instead of on the first attempt.
+   */
+  public static final class Builder {
+
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(100);
+    private Duration maxBackoff = Duration.ofSeconds(10);
+    private double multiplier = 2;
+    private double jitter = 0.5;
+    private Duration attemptTimeout;
+    private ExecutorService executor = ResultFanOut.executor();
+    private ScheduledExecutorService scheduler = SCHEDULER;
+
+    private Builder() {
+    }
+
+    /**
+     * @param maxAttempts the maximum number of attempts, including the first one.
+     * @return this Builder.
+     */
+    public Builder maxAttempts(int maxAttempts) {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("At least one attempt is needed: " + maxAttempts);
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * @param initialBackoff the delay after the first attempt.
+     * @param maxBackoff     the maximum delay between attempts.
+     * @param multiplier     the factor by which the delay grows after every attempt, at least 1.
+     * @return this Builder.
+     */
+    public Builder backoff(Duration initialBackoff, Duration maxBackoff, double multiplier) {
+      if (initialBackoff == null || initialBackoff.isNegative()
+              || maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0
+              || !(multiplier >= 1)) {
+        throw new IllegalArgumentException(String.format(
+                "Invalid backoff from %s to %s with multiplier %s",
+                initialBackoff, maxBackoff, multiplier));
+      }
+      this.initialBackoff = initialBackoff;
+      this.maxBackoff = maxBackoff;
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    /**
+     * @param jitter the maximum fraction, between 0 and 1, by which every delay is randomly
+     *               reduced, so clients that failed together don't retry together.
+     * @return this Builder.
+     */
+    public Builder jitter(double jitter) {
+      if (!(jitter >= 0 && jitter <= 1)) {
+        throw new IllegalArgumentException("The jitter must be between 0 and 1: " + jitter);
+      }
+      this.jitter = jitter;
+      return this;
+    }
+
+    /**
+     * @param attemptTimeout the time after which an attempt is interrupted and counts as an error
+     *                       occurred Result.
+     * @return this Builder.
+     */
+    public Builder attemptTimeout(Duration attemptTimeout) {
+      if (attemptTimeout == null || attemptTimeout.isNegative() || attemptTimeout.isZero()) {
+        throw new IllegalArgumentException("The attempt timeout must be positive: " + attemptTimeout);
+      }
+      this.attemptTimeout = attemptTimeout;
+      return this;
+    }
+
+    /**
+     * @param executor the executor to run attempts on, when they have a timeout or are asynchronous.
+     *                 Must not be null.
+     * @return this Builder.
+     */
+    public Builder executor(ExecutorService executor) {
+      this.executor = Objects.requireNonNull(executor, "The executor must not be null");
+      return this;
+    }
+
+    /**
+     * @param scheduler the scheduler for the delays and timeouts of asynchronous attempts. Must not
+     *                  be null.
+     * @return this Builder.
+     */
+    public Builder scheduler(ScheduledExecutorService scheduler) {
+      this.scheduler = Objects.requireNonNull(scheduler, "The scheduler must not be null");
+      return this;
+    }
+
+    /**
+     * @return a new ResultPolicy with the configuration of this Builder.
+     */
+    public ResultPolicy build() {
+      return new ResultPolicy(this);
+    }
+
+  }
+
+}
@@ -0,0 +1,133 @@
+package com.compilit.results;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * A {@link Flow.Processor} which combines a stream of results while they arrive, with the same
+ * outcome as {@link ContinuedResultCombiner#merge()}. Results are requested from upstream in
+ * batches. Publishing to subscribers blocks while their buffers are full, so a slow subscriber
+ * slows down the upstream publisher instead of results piling up.
+ *
+ * @param <T> the content type of the results.
+ */
+public final class ResultProcessor<T> implements Flow.Processor<Result<T>, Result<List<T>>> {
+
+  static final int REQUEST_BATCH_SIZE = 256;
+
+  private final SubmissionPublisher<Result<List<T>>> publisher;
+  private final int windowSize;
+  private Flow.Subscription subscription;
+  private ContinuedResultToListCombiner<T> combiner;
+  private int resolvedInWindow;
+  private int requestedFromUpstream;
+
+  private ResultProcessor(int windowSize, Executor executor) {
+    this.publisher = new SubmissionPublisher<>(executor, Flow.defaultBufferSize());
+    this.windowSize = windowSize;
+    this.combiner = newCombiner();
+  }
+
+  /**
+   * Publishes one merged Result of all received results once the upstream publisher completes.
+   * All contents are kept until then, so use {@link #windowed(int)} for unbounded streams.
+   *
+   * @param <T> the content type of the results.
+   * @return ResultProcessor publishing one Result containing a List of T.
+   */
+  public static <T> ResultProcessor<T> merging() {
+    return merging(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * See {@link #merging()}.
+   *
+   * @param executor the executor to deliver the merged Result to subscribers with.
+   * @param <T>      the content type of the results.
+   * @return ResultProcessor publishing one Result containing a List of T.
+   */
+  public static <T> ResultProcessor<T> merging(Executor executor) {
+    return new ResultProcessor<>(Integer.MAX_VALUE, executor);
+  }
+
+  /**
+   * Publishes a merged Result for every window of received results, and one for the remaining
+   * results once the upstream publisher completes. Only one window is kept in memory, which makes
+   * it suitable for unbounded streams.
+   *
+   * @param windowSize the number of results per published Result.
+   * @param <T>        the content type of the results.
+   * @return ResultProcessor publishing a Result containing a List of T per window.
+   */
+  public static <T> ResultProcessor<T> windowed(int windowSize) {
+    return windowed(windowSize, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * See {@link #windowed(int)}.
+   *
+   * @param windowSize the number of results per published Result.
+   * @param executor   the executor to deliver the merged Results to subscribers with.
+   * @param <T>        the content type of the results.
+   * @return ResultProcessor publishing a Result containing a List of T per window.
+   */
+  public static <T> ResultProcessor<T> windowed(int windowSize, Executor executor) {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("The window size must be positive: " + windowSize);
+    }
+    return new ResultProcessor<>(windowSize, executor);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super Result<List<T>>> subscriber) {
+    publisher.subscribe(subscriber);
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    if (this.subscription != null) {
+      subscription.cancel();
+      return;
+    }
+    this.subscription = subscription;
+    requestedFromUpstream = REQUEST_BATCH_SIZE;
+    subscription.request(REQUEST_BATCH_SIZE);
+  }
+
+  @Override
+  public void onNext(Result<T> result) {
+    if (--requestedFromUpstream <= REQUEST_BATCH_SIZE / 2) {
+      requestedFromUpstream += REQUEST_BATCH_SIZE;
+      subscription.request(REQUEST_BATCH_SIZE);
+    }
+    combiner.resolve(result);
+    if (++resolvedInWindow == windowSize) {
+      publisher.submit(combiner.merge());
+      combiner = newCombiner();
+      resolvedInWindow = 0;
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    publisher.closeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    if (resolvedInWindow > 0 || windowSize == Integer.MAX_VALUE) {
+      publisher.submit(combiner.merge());
+    }
+    publisher.close();
+  }
+
+  private ContinuedResultToListCombiner<T> newCombiner() {
+    return new ContinuedResultToListCombiner<>(windowSize == Integer.MAX_VALUE
+            ? AbstractResultCombiner.DEFAULT_CAPACITY
+            : windowSize);
+  }
+
+}
@@ -0,0 +1,69 @@
+package com.compilit.results;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Folds the contents of every resolved result into a single value with a plain accumulator
+ * function, instead of storing them. It continues the combination of a list combiner, whose
+ * contents are folded when it is created.
+ */
+final class ResultToFoldedValueCombiner<T, R> extends AbstractResultCombiner<T>
+        implements ReducingResultCombiner<T, R> {
+
+  private final BiFunction<R, ? super T, R> accumulator;
+  private R value;
+
+  ResultToFoldedValueCombiner(ContinuedResultToListCombiner<T> combined,
+                              R identity,
+                              BiFunction<R, ? super T, R> accumulator) {
+    super(0, combined.isFailFast);
+    this.accumulator = accumulator;
+    this.value = identity;
+    absorb(combined);
+  }
+
+  @Override
+  public ReducingResultCombiner<T, R> and(Result<T> result) {
+    resolve(result);
+    return this;
+  }
+
+  @Override
+  public ReducingResultCombiner<T, R> and(Supplier<? extends Result<T>> resultSupplier) {
+    resolve(resultSupplier);
+    return this;
+  }
+
+  @Override
+  public Result<R> merge() {
+    return merge(AggregationPolicy.UNPROCESSABLE);
+  }
+
+  @Override
+  public Result<R> merge(AggregationPolicy aggregationPolicy) {
+    return isSuccessful ? new SuccessResult<>(value) : aggregatedFailure(aggregationPolicy);
+  }
+
+  @Override
+  public Map<ResultStatus, Integer> getStatusCounts() {
+    return statusCounts();
+  }
+
+  @Override
+  protected void acceptContents(T element) {
+    value = accumulator.apply(value, element);
+  }
+
+  @Override
+  protected void absorbContents(AbstractResultCombiner<T> other) {
+    other.forEachContents(this::acceptContents);
+  }
+
+  @Override
+  protected void discardContents() {
+    value = null;
+  }
+
+}
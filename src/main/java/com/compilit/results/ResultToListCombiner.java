@@ -1,16 +1,36 @@
 package com.compilit.results;
 
-final class ResultToListCombiner<T> extends AbstractResultCombiner<T> implements ResultCombiner<T> {
+import java.util.function.Supplier;
+
+final class ResultToListCombiner<T> implements ResultCombiner<T> {
+
+  private final Result<T> result;
+  private final boolean isFailFast;
 
   ResultToListCombiner(Result<T> result) {
-    super();
-    resolve(result);
+    this(result, false);
+  }
+
+  ResultToListCombiner(Result<T> result, boolean isFailFast) {
+    this.result = result;
+    this.isFailFast = isFailFast;
   }
 
   @Override
   public ContinuedResultCombiner<T> with(Result<T> result) {
-    resolve(result);
-    return new ContinuedResultToListCombiner<>(resultList, messages, isSuccessful);
+    return start().and(result);
+  }
+
+  @Override
+  public ContinuedResultCombiner<T> with(Supplier<? extends Result<T>> resultSupplier) {
+    return start().and(resultSupplier);
+  }
+
+  private ContinuedResultToListCombiner<T> start() {
+    var combiner = new ContinuedResultToListCombiner<T>(AbstractResultCombiner.DEFAULT_CAPACITY,
+            isFailFast);
+    combiner.resolve(result);
+    return combiner;
   }
 
 }
@@ -0,0 +1,52 @@
+package com.compilit.results;
+
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+/**
+ * Folds the contents of every resolved result into the container of a Collector, instead of
+ * storing them. Memory use therefore only depends on the Collector. Only used as the container of
+ * {@link Result#merging(Collector)}, which merges once when the stream is done, so the container
+ * can safely be handed to the finisher.
+ */
+final class ResultToValueCombiner<T, A, R> extends AbstractResultCombiner<T> {
+
+  private final Collector<? super T, A, R> collector;
+  private final BiConsumer<A, ? super T> accumulator;
+  private A container;
+
+  ResultToValueCombiner(Collector<? super T, A, R> collector) {
+    super(0);
+    this.collector = collector;
+    this.accumulator = collector.accumulator();
+    this.container = collector.supplier().get();
+  }
+
+  Result<R> merge() {
+    return isSuccessful
+            ? new SuccessResult<>(collector.finisher().apply(container))
+            : aggregatedFailure(AggregationPolicy.UNPROCESSABLE);
+  }
+
+  @Override
+  protected void acceptContents(T value) {
+    accumulator.accept(container, value);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void absorbContents(AbstractResultCombiner<T> other) {
+    if (other instanceof ResultToValueCombiner) {
+      var otherContainer = ((ResultToValueCombiner<T, A, R>) other).container;
+      container = collector.combiner().apply(container, otherContainer);
+    } else {
+      other.forEachContents(this::acceptContents);
+    }
+  }
+
+  @Override
+  protected void discardContents() {
+    container = null;
+  }
+
+}
@@ -0,0 +1,28 @@
+package com.compilit.results;
+
+import java.util.List;
+
+/**
+ * The final Result of a {@link ResultPolicy}, which remembers the attempts that led to it.
+ */
+final class RetriedResult<T> extends DelegatingResult<T> {
+
+  private final Result<T> result;
+  private final List<Result<T>> attempts;
+
+  RetriedResult(Result<T> result, List<Result<T>> attempts) {
+    this.result = result;
+    this.attempts = List.copyOf(attempts);
+  }
+
+  @Override
+  protected Result<T> delegate() {
+    return result;
+  }
+
+  @Override
+  public List<Result<T>> getAttempts() {
+    return attempts;
+  }
+
+}
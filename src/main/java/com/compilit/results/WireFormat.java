@@ -0,0 +1,116 @@
+package com.compilit.results;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Variable-length integers and UTF-8 strings for the binary Result format. Strings are encoded
+ * straight into the buffer, without an intermediate byte array. Like {@link String#getBytes}, an
+ * unpaired surrogate is encoded as '?'.
+ */
+final class WireFormat {
+
+  private static final int MAX_VAR_INT_SIZE = 5;
+
+  private WireFormat() {
+  }
+
+  static int varIntSize(int value) {
+    var size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  static void putVarInt(int value, ByteBuffer buffer) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  static int getVarInt(ByteBuffer buffer) {
+    var value = 0;
+    for (int index = 0; index < MAX_VAR_INT_SIZE; index++) {
+      var current = buffer.get();
+      value |= (current & 0x7F) << (7 * index);
+      if (current >= 0) {
+        if (value < 0) {
+          throw new IllegalArgumentException("Negative length in encoded Result");
+        }
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed length in encoded Result");
+  }
+
+  static int utf8Length(String value) {
+    var length = value.length();
+    var utf8Length = length;
+    for (int index = 0; index < length; index++) {
+      var character = value.charAt(index);
+      if (character >= 0x800) {
+        if (Character.isHighSurrogate(character) && index + 1 < length
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+          utf8Length += 2;
+          index++;
+        } else if (!Character.isSurrogate(character)) {
+          utf8Length += 2;
+        }
+      } else if (character >= 0x80) {
+        utf8Length++;
+      }
+    }
+    return utf8Length;
+  }
+
+  static void putUtf8(String value, ByteBuffer buffer) {
+    putVarInt(utf8Length(value), buffer);
+    var length = value.length();
+    for (int index = 0; index < length; index++) {
+      var character = value.charAt(index);
+      if (character < 0x80) {
+        buffer.put((byte) character);
+      } else if (character < 0x800) {
+        buffer.put((byte) (0xC0 | (character >> 6)));
+        buffer.put((byte) (0x80 | (character & 0x3F)));
+      } else if (!Character.isSurrogate(character)) {
+        buffer.put((byte) (0xE0 | (character >> 12)));
+        buffer.put((byte) (0x80 | ((character >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (character & 0x3F)));
+      } else if (Character.isHighSurrogate(character) && index + 1 < length
+              && Character.isLowSurrogate(value.charAt(index + 1))) {
+        var codePoint = Character.toCodePoint(character, value.charAt(++index));
+        buffer.put((byte) (0xF0 | (codePoint >> 18)));
+        buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+      } else {
+        buffer.put((byte) '?');
+      }
+    }
+  }
+
+  static String getUtf8(ByteBuffer buffer) {
+    var length = getVarInt(buffer);
+    if (length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    String value;
+    if (buffer.hasArray()) {
+      value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+              StandardCharsets.UTF_8);
+      buffer.position(buffer.position() + length);
+    } else {
+      var bytes = new byte[length];
+      buffer.get(bytes);
+      value = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return value;
+  }
+
+}
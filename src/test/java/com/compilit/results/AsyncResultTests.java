@@ -0,0 +1,148 @@
+package com.compilit.results;
+
+import com.compilit.results.assertions.ResultAssertions;
+import com.compilit.results.testutil.TestValue;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+class AsyncResultTests {
+
+  @Test
+  void async_successfulSupplier_shouldCompleteWithSuccessResult() {
+    var actual = Result.async(() -> TestValue.TEST_CONTENT).join();
+    ResultAssertions.assertThat(actual).isValidSuccessResult()
+            .containsContent(TestValue.TEST_CONTENT);
+  }
+
+  @Test
+  void async_throwingSupplier_shouldCompleteWithErrorOccurredResult() {
+    var exception = new IllegalStateException(TestValue.TEST_MESSAGE);
+    var executor = Executors.newSingleThreadExecutor();
+    try {
+      var actual = Result.async((Supplier<String>) () -> {
+        throw exception;
+      }, executor).join();
+      ResultAssertions.assertThat(actual).isValidUnsuccessfulResult()
+              .containsMessage(TestValue.TEST_MESSAGE);
+      Assertions.assertThat(actual.getCause()).isSameAs(exception);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void fromCompletionStage_exceptionalCompletion_shouldUnwrapCause() {
+    var exception = new IllegalStateException(TestValue.TEST_MESSAGE);
+    var future = CompletableFuture.<String>supplyAsync(() -> {
+      throw exception;
+    });
+    var actual = AsyncResult.fromCompletionStage(future).join();
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getCause()).isSameAs(exception);
+  }
+
+  @Test
+  void map_shouldMapContents() {
+    var actual = AsyncResult.completed(Result.success(TestValue.TEST_CONTENT))
+            .map(String::length)
+            .join();
+    ResultAssertions.assertThat(actual).isValidSuccessResult()
+            .containsContent(TestValue.TEST_CONTENT.length());
+  }
+
+  @Test
+  void map_throwingMapper_shouldReturnErrorOccurredResult() {
+    var actual = AsyncResult.completed(Result.success(TestValue.TEST_CONTENT))
+            .map(contents -> {
+              throw new IllegalStateException(TestValue.TEST_MESSAGE);
+            })
+            .join();
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult()
+            .containsMessage(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void flatMap_unsuccessful_shouldNotCallMapper() {
+    var calls = new AtomicInteger();
+    var result = Result.<String>notFound(TestValue.TEST_MESSAGE);
+    var actual = AsyncResult.completed(result)
+            .flatMap(contents -> {
+              calls.incrementAndGet();
+              return AsyncResult.completed(Result.success(1));
+            })
+            .join();
+    Assertions.assertThat(actual).isSameAs(result);
+    Assertions.assertThat(calls.get()).isEqualTo(0);
+  }
+
+  @Test
+  void flatMap_success_shouldChainNextStep() {
+    var actual = Result.async(() -> 2)
+            .flatMap(contents -> Result.async(() -> contents * 21))
+            .join();
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(42);
+  }
+
+  @Test
+  void flatMap_mapperReturnsNull_shouldCompleteWithErrorOccurredResult() {
+    var actual = Result.async(() -> 2)
+            .<Integer>flatMap(contents -> null)
+            .join();
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult()
+            .containsMessage(Message.MAPPER_WITHOUT_RESULT);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+  }
+
+  @Test
+  void combineAll_shouldMergeInInputOrderRegardlessOfCompletionOrder() {
+    var first = new CompletableFuture<Integer>();
+    var second = new CompletableFuture<Integer>();
+    var merged = AsyncResult.combineAll(List.of(
+            AsyncResult.fromCompletionStage(first),
+            AsyncResult.fromCompletionStage(second))).merge();
+    second.complete(2);
+    Assertions.assertThat(merged.toCompletableFuture().isDone()).isFalse();
+    first.complete(1);
+    var actual = merged.join();
+    ResultAssertions.assertThat(actual).isValidSuccessResult();
+    Assertions.assertThat(actual.getContents()).containsExactly(1, 2);
+  }
+
+  @Test
+  void combineAll_withFailure_shouldPreserveStatusWithPolicy() {
+    var actual = AsyncResult.combineAll(List.of(
+            AsyncResult.completed(Result.success(1)),
+            AsyncResult.completed(Result.<Integer>unauthorized(TestValue.TEST_MESSAGE))))
+            .sum(AggregationPolicy.FIRST_FAILURE)
+            .join();
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.UNAUTHORIZED);
+    Assertions.assertThat(actual.getMessage()).contains(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void combineAll_exceptionalCompletion_shouldUnwrapCause() {
+    var exception = new IllegalStateException(TestValue.TEST_MESSAGE);
+    var failed = new AsyncResult<Integer>(CompletableFuture.supplyAsync(() -> {
+      throw exception;
+    }));
+    var actual = AsyncResult.combineAll(List.of(AsyncResult.completed(Result.success(1)), failed))
+            .sum(AggregationPolicy.FIRST_FAILURE)
+            .join();
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessages()).containsExactly(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void combineAll_empty_shouldCompleteWithEmptyList() {
+    var actual = AsyncResult.combineAll(List.<AsyncResult<Integer>>of()).merge().join();
+    ResultAssertions.assertThat(actual).isValidSuccessResult();
+    Assertions.assertThat(actual.getContents()).isEmpty();
+  }
+
+}
@@ -0,0 +1,108 @@
+package com.compilit.results;
+
+import com.compilit.results.assertions.ResultAssertions;
+import com.compilit.results.testutil.TestValue;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+class PrimitiveResultTests {
+
+  @Test
+  void success_shouldHoldUnboxedValue() {
+    var actual = IntResult.success(42);
+    Assertions.assertThat(actual.isSuccessful()).isTrue();
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.SUCCESS);
+    Assertions.assertThat(actual.getAsInt()).isEqualTo(42);
+  }
+
+  @Test
+  void getAsLong_unsuccessful_shouldThrow() {
+    var actual = LongResult.notFound(TestValue.TEST_MESSAGE);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    Assertions.assertThat(actual.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+    Assertions.assertThat(actual.orElse(-1L)).isEqualTo(-1L);
+    Assertions.assertThatThrownBy(actual::getAsLong).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void notFound_withoutMessage_shouldReturnSharedInstance() {
+    Assertions.assertThat(DoubleResult.notFound()).isSameAs(DoubleResult.notFound());
+  }
+
+  @Test
+  void resultOf_throwingSupplier_shouldReturnErrorOccurredWithCause() {
+    var exception = new IllegalStateException(TestValue.TEST_MESSAGE);
+    var actual = IntResult.resultOf(() -> {
+      throw exception;
+    });
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getCause()).isSameAs(exception);
+  }
+
+  @Test
+  void map_shouldOnlyMapSuccessfulValue() {
+    Assertions.assertThat(LongResult.success(2).map(value -> value * 3).getAsLong()).isEqualTo(6L);
+    var unsuccessful = LongResult.unauthorized();
+    Assertions.assertThat(unsuccessful.map(value -> value * 3)).isSameAs(unsuccessful);
+  }
+
+  @Test
+  void boxed_shouldBridgeToResult() {
+    ResultAssertions.assertThat(IntResult.success(7).boxed()).isValidSuccessResult().containsContent(7);
+    var actual = IntResult.unprocessable(TestValue.TEST_MESSAGE).mapToObj(String::valueOf);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+    Assertions.assertThat(actual.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void fromResult_successful_shouldThrow() {
+    Assertions.assertThatThrownBy(() -> IntResult.fromResult(Result.success()))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void combineAll_allSuccessful_shouldMergeValuesInOrder() {
+    var actual = IntResult.combineAll(IntResult.success(1), IntResult.success(2))
+            .and(IntResult.success(3))
+            .merge();
+    ResultAssertions.assertThat(actual).isValidSuccessResult();
+    Assertions.assertThat(actual.getContents()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void total_intValues_shouldNotOverflow() {
+    var actual = IntResult.combineAll(List.of(IntResult.success(Integer.MAX_VALUE),
+            IntResult.success(Integer.MAX_VALUE))).total();
+    Assertions.assertThat(actual.getAsLong()).isEqualTo(2L * Integer.MAX_VALUE);
+  }
+
+  @Test
+  void total_longOverflow_shouldReturnErrorOccurred() {
+    var actual = LongResult.combineAll(LongResult.success(Long.MAX_VALUE), LongResult.success(1))
+            .total();
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getCause()).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void total_doubleValues_shouldAddUp() {
+    var actual = DoubleResult.combineAll(DoubleResult.success(0.5), DoubleResult.success(1.25))
+            .total();
+    Assertions.assertThat(actual.getAsDouble()).isEqualTo(1.75);
+  }
+
+  @Test
+  void total_unsuccessful_shouldAggregateMessagesAndCountStatuses() {
+    var combiner = LongResult.combineAll(LongResult.success(1),
+            LongResult.notFound(TestValue.TEST_MESSAGE),
+            LongResult.errorOccurred(TestValue.TEST_MESSAGE));
+    var actual = combiner.total(AggregationPolicy.MOST_SEVERE);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessages()).hasSize(2);
+    Assertions.assertThat(combiner.getStatusCounts().get(ResultStatus.SUCCESS)).isEqualTo(1);
+  }
+
+}
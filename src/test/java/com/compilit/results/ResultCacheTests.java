@@ -0,0 +1,192 @@
+package com.compilit.results;
+
+import com.compilit.results.assertions.ResultAssertions;
+import com.compilit.results.testutil.TestValue;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ResultCacheTests {
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void get_sameKey_shouldLoadOnce() {
+    ResultCache<String, String> cache = ResultCache.builder().build();
+    cache.resultOf(TestValue.TEST_MESSAGE, this::load);
+    var actual = cache.resultOf(TestValue.TEST_MESSAGE, this::load);
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(TestValue.TEST_CONTENT);
+    Assertions.assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void get_afterSuccessTtl_shouldLoadAgain() {
+    ResultCache<String, String> cache = ResultCache.builder()
+            .successTtl(Duration.ofSeconds(1))
+            .nanoTime(nanoTime::get)
+            .build();
+    cache.resultOf(TestValue.TEST_MESSAGE, this::load);
+    nanoTime.addAndGet(Duration.ofMillis(999).toNanos());
+    cache.resultOf(TestValue.TEST_MESSAGE, this::load);
+    Assertions.assertThat(loads.get()).isEqualTo(1);
+    nanoTime.addAndGet(Duration.ofMillis(1).toNanos());
+    cache.resultOf(TestValue.TEST_MESSAGE, this::load);
+    Assertions.assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  void get_loaderReturnsNull_shouldReturnErrorOccurredResult() {
+    ResultCache<String, String> cache = ResultCache.builder().build();
+    var actual = cache.get(TestValue.TEST_MESSAGE, key -> null);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessage())
+            .isEqualTo(String.format(Message.LOADER_WITHOUT_RESULT, TestValue.TEST_MESSAGE));
+  }
+
+  @Test
+  void get_notFoundWithFailureTtl_shouldBeCached() {
+    ResultCache<String, String> cache = ResultCache.builder()
+            .failureTtl(Duration.ofSeconds(10))
+            .build();
+    cache.get(TestValue.TEST_MESSAGE, key -> notFound());
+    var actual = cache.get(TestValue.TEST_MESSAGE, key -> notFound());
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    Assertions.assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void get_failureWithoutFailureTtl_shouldNotBeCached() {
+    ResultCache<String, String> cache = ResultCache.builder().build();
+    cache.get(TestValue.TEST_MESSAGE, key -> notFound());
+    cache.get(TestValue.TEST_MESSAGE, key -> notFound());
+    Assertions.assertThat(loads.get()).isEqualTo(2);
+    Assertions.assertThat(cache.size()).isEqualTo(0);
+  }
+
+  @Test
+  void get_throwingLoader_shouldReturnErrorOccurredAndNotCache() {
+    ResultCache<String, String> cache = ResultCache.builder().build();
+    var exception = new IllegalStateException(TestValue.TEST_MESSAGE);
+    var actual = cache.get(TestValue.TEST_MESSAGE, key -> {
+      throw exception;
+    });
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getCause()).isSameAs(exception);
+    Assertions.assertThat(cache.size()).isEqualTo(0);
+  }
+
+  @Test
+  void get_concurrentMisses_shouldLoadOnce() throws Exception {
+    ResultCache<String, String> cache = ResultCache.builder().build();
+    var loading = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var futures = new ArrayList<Future<Result<String>>>();
+      futures.add(executor.submit(() -> cache.get(TestValue.TEST_MESSAGE, key -> {
+        loading.countDown();
+        awaitQuietly(release);
+        return Result.success(load());
+      })));
+      Assertions.assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+      for (int index = 0; index < 3; index++) {
+        futures.add(executor.submit(() -> cache.resultOf(TestValue.TEST_MESSAGE, this::load)));
+      }
+      release.countDown();
+      for (var future : futures) {
+        ResultAssertions.assertThat(future.get(5, TimeUnit.SECONDS)).isValidSuccessResult()
+                .containsContent(TestValue.TEST_CONTENT);
+      }
+      Assertions.assertThat(loads.get()).isEqualTo(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void get_beyondMaximumSize_shouldEvictSoonestToExpire() {
+    ResultCache<Integer, String> cache = ResultCache.builder()
+            .maximumSize(2)
+            .nanoTime(nanoTime::get)
+            .build();
+    cache.resultOf(1, this::load);
+    nanoTime.incrementAndGet();
+    cache.resultOf(2, this::load);
+    nanoTime.incrementAndGet();
+    cache.resultOf(3, this::load);
+    Assertions.assertThat(cache.size()).isEqualTo(2);
+    cache.resultOf(1, this::load);
+    Assertions.assertThat(loads.get()).isEqualTo(4);
+  }
+
+  @Test
+  void get_beyondMaximumSize_shouldEvictFromAllOfTheKeptResults() {
+    ResultCache<Integer, String> cache = ResultCache.builder()
+            .maximumSize(100)
+            .nanoTime(nanoTime::get)
+            .build();
+    for (int key = 0; key < 2000; key++) {
+      nanoTime.incrementAndGet();
+      cache.resultOf(key, this::load);
+    }
+    for (int key = 0; key < 1000; key++) {
+      cache.resultOf(key, this::load);
+    }
+    // The sample is random, so an old Result can escape eviction now and then, but only a few do.
+    Assertions.assertThat(loads.get()).isGreaterThan(2980);
+  }
+
+  @Test
+  void get_loaderGettingItsOwnKey_shouldReturnErrorOccurredInsteadOfWaiting() {
+    ResultCache<String, String> cache = ResultCache.builder().build();
+    var actual = cache.get(TestValue.TEST_MESSAGE, key -> cache.resultOf(key, this::load));
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getCause()).isInstanceOf(IllegalStateException.class);
+    Assertions.assertThat(loads.get()).isZero();
+    ResultAssertions.assertThat(cache.resultOf(TestValue.TEST_MESSAGE, this::load))
+            .isValidSuccessResult();
+  }
+
+  @Test
+  void invalidate_shouldLoadAgain() {
+    ResultCache<String, String> cache = ResultCache.builder().build();
+    cache.resultOf(TestValue.TEST_MESSAGE, this::load);
+    cache.invalidate(TestValue.TEST_MESSAGE);
+    cache.resultOf(TestValue.TEST_MESSAGE, this::load);
+    Assertions.assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  void builder_negativeTtl_shouldThrow() {
+    Assertions.assertThatThrownBy(() -> ResultCache.builder().failureTtl(Duration.ofSeconds(-1)))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private String load() {
+    loads.incrementAndGet();
+    return TestValue.TEST_CONTENT;
+  }
+
+  private Result<String> notFound() {
+    loads.incrementAndGet();
+    return Result.notFound(TestValue.TEST_MESSAGE);
+  }
+
+  private static void awaitQuietly(CountDownLatch countDownLatch) {
+    try {
+      countDownLatch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
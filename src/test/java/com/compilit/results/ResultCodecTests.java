@@ -0,0 +1,89 @@
+package com.compilit.results;
+
+import com.compilit.results.assertions.ResultAssertions;
+import com.compilit.results.testutil.TestValue;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class ResultCodecTests {
+
+  @Test
+  void encode_successWithContents_shouldRoundTrip() {
+    var codec = ResultCodec.of(ContentCodec.utf8());
+    var actual = codec.decode(codec.encode(Result.success(TestValue.TEST_CONTENT)));
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(TestValue.TEST_CONTENT);
+  }
+
+  @Test
+  void encode_emptyResult_shouldTakeOneByteAndDecodeToSharedInstance() {
+    var codec = ResultCodec.<String>withoutContents();
+    var encoded = codec.encode(Result.notFound());
+    Assertions.assertThat(encoded.remaining()).isEqualTo(1);
+    Assertions.assertThat(codec.decode(encoded)).isSameAs(Result.notFound());
+  }
+
+  @Test
+  void encode_failureWithMessage_shouldRoundTripStatusAndMessage() {
+    var codec = ResultCodec.of(ContentCodec.int32());
+    var message = "User %s not found: \u00e9\u4e2d\ud83d\ude00";
+    Result<Integer> result = Result.unauthorized(message, "42");
+    var encoded = codec.encode(result);
+    Assertions.assertThat(encoded.remaining()).isEqualTo(codec.encodedSize(result));
+    var actual = codec.decode(encoded);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.UNAUTHORIZED);
+    Assertions.assertThat(actual.getMessage()).isEqualTo(result.getMessage());
+  }
+
+  @Test
+  void encode_messageCode_shouldEncodeCodeAndDecodeToSharedInstance() {
+    var messageCode = MessageCode.of("results.codec.not-found", "A rather long message that is not sent");
+    var codec = ResultCodec.<Void>withoutContents();
+    var encoded = codec.encode(Result.notFound(messageCode));
+    Assertions.assertThat(encoded.remaining()).isEqualTo(2 + messageCode.getCode().length());
+    Assertions.assertThat(codec.decode(encoded)).isSameAs(Result.notFound(messageCode));
+  }
+
+  @Test
+  void decode_bytes_shouldSliceWithoutCopying() {
+    var codec = ResultCodec.of(ContentCodec.bytes());
+    var payload = ByteBuffer.wrap(TestValue.TEST_CONTENT.getBytes(StandardCharsets.UTF_8));
+    var buffer = ByteBuffer.allocate(64);
+    codec.encode(Result.success(payload), buffer);
+    codec.encode(Result.success(payload), buffer);
+    buffer.flip();
+    var first = codec.decode(buffer).getContents();
+    var second = codec.decode(buffer).getContents();
+    Assertions.assertThat(first.isReadOnly()).isTrue();
+    Assertions.assertThat(first).isEqualTo(payload);
+    Assertions.assertThat(second).isEqualTo(payload);
+    Assertions.assertThat(buffer.hasRemaining()).isFalse();
+  }
+
+  @Test
+  void encode_bufferTooSmall_shouldThrowWithoutWriting() {
+    var codec = ResultCodec.of(ContentCodec.int64());
+    var buffer = ByteBuffer.allocate(4);
+    Assertions.assertThatThrownBy(() -> codec.encode(Result.success(1L), buffer))
+            .isInstanceOf(BufferOverflowException.class);
+    Assertions.assertThat(buffer.position()).isEqualTo(0);
+  }
+
+  @Test
+  void encode_contentsWithoutContentCodec_shouldThrow() {
+    var codec = ResultCodec.<String>withoutContents();
+    Assertions.assertThatThrownBy(() -> codec.encode(Result.success(TestValue.TEST_CONTENT)))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void decode_malformedHeader_shouldThrow() {
+    var codec = ResultCodec.withoutContents();
+    Assertions.assertThatThrownBy(() -> codec.decode(ByteBuffer.wrap(new byte[]{0x0F})))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
@@ -0,0 +1,87 @@
+package com.compilit.results;
+
+import com.compilit.results.testutil.TestValue;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class ResultEventTests {
+
+  private static final String ERROR_OCCURRED = "com.compilit.results.ErrorOccurred";
+  private static final String RESULT_OF = "com.compilit.results.ResultOf";
+  private static final String COMBINE = "com.compilit.results.Combine";
+
+  @Test
+  void events_disabledByDefault_shouldNotBeRecorded() throws IOException {
+    var events = record(false, () -> Result.errorOccurred(TestValue.TEST_MESSAGE));
+    Assertions.assertThat(events).isEmpty();
+  }
+
+  @Test
+  void errorOccurred_shouldRecordMessageLength() throws IOException {
+    var events = record(true, () -> Result.errorOccurred("%s", TestValue.TEST_MESSAGE));
+    var event = single(events, ERROR_OCCURRED);
+    Assertions.assertThat(event.getInt("messageLength")).isEqualTo(TestValue.TEST_MESSAGE.length());
+  }
+
+  @Test
+  void resultOf_caughtException_shouldRecordExceptionType() throws IOException {
+    var events = record(true, () -> Result.resultOf((Supplier<String>) () -> {
+      throw new IllegalStateException(TestValue.TEST_MESSAGE);
+    }));
+    var event = single(events, RESULT_OF);
+    Assertions.assertThat(event.getString("resultStatus")).isEqualTo("ERROR_OCCURRED");
+    Assertions.assertThat(event.getClass("exceptionType").getName())
+            .isEqualTo(IllegalStateException.class.getName());
+  }
+
+  @Test
+  void merge_shouldRecordCountsAndStatus() throws IOException {
+    var events = record(true, () -> Result.combine(Result.success(1))
+            .with(Result.notFound(TestValue.TEST_MESSAGE))
+            .and(Result.success(2))
+            .merge());
+    var event = single(events, COMBINE);
+    Assertions.assertThat(event.getString("operation")).isEqualTo("merge");
+    Assertions.assertThat(event.getString("resultStatus")).isEqualTo("UNPROCESSABLE");
+    Assertions.assertThat(event.getInt("resultCount")).isEqualTo(3);
+    Assertions.assertThat(event.getInt("failureCount")).isEqualTo(1);
+  }
+
+  private static List<RecordedEvent> record(boolean enabled, Runnable runnable) throws IOException {
+    var file = Files.createTempFile("results", ".jfr");
+    try (var recording = new Recording()) {
+      if (enabled) {
+        recording.enable(ERROR_OCCURRED);
+        recording.enable(RESULT_OF);
+        recording.enable(COMBINE);
+      }
+      recording.start();
+      runnable.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+              .filter(event -> event.getEventType().getName().startsWith("com.compilit.results."))
+              .collect(Collectors.toList());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static RecordedEvent single(List<RecordedEvent> events, String name) {
+    var matching = events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    Assertions.assertThat(matching).hasSize(1);
+    return matching.get(0);
+  }
+
+}
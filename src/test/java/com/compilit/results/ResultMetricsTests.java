@@ -0,0 +1,87 @@
+package com.compilit.results;
+
+import com.compilit.results.testutil.TestValue;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+class ResultMetricsTests {
+
+  private InMemoryResultMetrics resultMetrics;
+
+  @BeforeEach
+  void setUp() {
+    resultMetrics = ResultMetrics.inMemory();
+    ResultMetrics.install(resultMetrics);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ResultMetrics.install(ResultMetrics.noOp());
+  }
+
+  @Test
+  void installed_byDefault_shouldBeNoOp() {
+    ResultMetrics.install(ResultMetrics.noOp());
+    Assertions.assertThat(ResultMetrics.installed()).isSameAs(ResultMetrics.noOp());
+    Assertions.assertThat(ResultMetrics.noOp().isTimingEnabled()).isFalse();
+  }
+
+  @Test
+  void factories_shouldRecordCreatedResultsPerStatus() {
+    Result.unauthorized();
+    Result.unauthorized(TestValue.TEST_MESSAGE);
+    Result.unauthorized(MessageCode.of("results.metrics.unauthorized", TestValue.TEST_MESSAGE));
+    Result.fromResult(Result.unauthorized());
+    Assertions.assertThat(resultMetrics.getCreatedCount(ResultStatus.UNAUTHORIZED)).isEqualTo(5L);
+    Assertions.assertThat(resultMetrics.getCreatedCounts().get(ResultStatus.UNAUTHORIZED)).isEqualTo(5L);
+  }
+
+  @Test
+  void resultOf_shouldRecordDurationPerStatus() {
+    Result.resultOf((Supplier<String>) () -> {
+      throw new IllegalStateException(TestValue.TEST_MESSAGE);
+    });
+    Assertions.assertThat(resultMetrics.getTimedCount(ResultStatus.ERROR_OCCURRED)).isEqualTo(1L);
+    Assertions.assertThat(resultMetrics.getTimedNanos(ResultStatus.ERROR_OCCURRED)).isGreaterThan(0L);
+  }
+
+  @Test
+  void combiner_shouldRecordResolvedResults() {
+    Result.combine(Result.<String>unauthorized())
+            .with(Result.unauthorized())
+            .and(Result.notFound())
+            .merge();
+    Assertions.assertThat(resultMetrics.getResolvedCount(ResultStatus.UNAUTHORIZED)).isEqualTo(2L);
+    Assertions.assertThat(resultMetrics.getResolvedCounts().get(ResultStatus.NOT_FOUND)).isEqualTo(1L);
+  }
+
+  @Test
+  void combiners_shouldNotRecordTheResultsTheyProduce() {
+    var combiner = Result.combine(Result.success(1)).with(Result.success(2));
+    combiner.merge();
+    combiner.sum();
+    combiner.reduce(0, Integer::sum).merge();
+    IntResult.combineAll(IntResult.success(1), IntResult.success(2)).merge();
+    Result.success(1).map(contents -> contents + 1);
+    Assertions.assertThat(resultMetrics.getCreatedCount(ResultStatus.SUCCESS)).isEqualTo(3L);
+    Assertions.assertThat(resultMetrics.getResolvedCount(ResultStatus.SUCCESS)).isEqualTo(4L);
+  }
+
+  @Test
+  void reset_shouldClearAllCounts() {
+    Result.unauthorized();
+    resultMetrics.reset();
+    Assertions.assertThat(resultMetrics.getCreatedCount(ResultStatus.UNAUTHORIZED)).isZero();
+  }
+
+  @Test
+  void install_null_shouldThrow() {
+    Assertions.assertThatThrownBy(() -> ResultMetrics.install(null))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
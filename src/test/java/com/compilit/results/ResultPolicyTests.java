@@ -0,0 +1,145 @@
+package com.compilit.results;
+
+import com.compilit.results.assertions.ResultAssertions;
+import com.compilit.results.testutil.TestValue;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+class ResultPolicyTests {
+
+  private static final Duration BACKOFF = Duration.ofMillis(1);
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  void resultOf_failingThenSucceeding_shouldRetryAndRecordAttempts() {
+    var policy = ResultPolicy.builder()
+            .maxAttempts(3)
+            .backoff(BACKOFF, BACKOFF, 1)
+            .build();
+    var actual = policy.resultOf(failTimes(2));
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(TestValue.TEST_CONTENT);
+    Assertions.assertThat(actual.getAttempts()).hasSize(3);
+    Assertions.assertThat(actual.getAttempts().get(0).getResultStatus())
+            .isEqualTo(ResultStatus.ERROR_OCCURRED);
+  }
+
+  @Test
+  void resultOf_alwaysFailing_shouldStopAtMaxAttempts() {
+    var policy = ResultPolicy.builder()
+            .maxAttempts(4)
+            .backoff(BACKOFF, BACKOFF, 2)
+            .build();
+    var actual = policy.resultOf(failTimes(10));
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+    Assertions.assertThat(actual.getAttempts()).hasSize(4);
+    Assertions.assertThat(calls.get()).isEqualTo(4);
+  }
+
+  @Test
+  void resultOf_withoutRetry_shouldHaveSingleAttempt() {
+    var actual = Result.success(TestValue.TEST_CONTENT);
+    Assertions.assertThat(actual.getAttempts()).containsExactly(actual);
+  }
+
+  @Test
+  void resultOf_attemptTimeout_shouldReturnErrorOccurredWithClearMessage() {
+    var interrupted = new CountDownLatch(1);
+    var policy = ResultPolicy.builder()
+            .maxAttempts(1)
+            .attemptTimeout(Duration.ofMillis(20))
+            .build();
+    var actual = policy.resultOf(() -> {
+      try {
+        Thread.sleep(5000);
+      } catch (InterruptedException exception) {
+        interrupted.countDown();
+      }
+      return TestValue.TEST_CONTENT;
+    });
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessage()).isEqualTo("Attempt 1 did not complete within PT0.02S");
+    Assertions.assertThat(awaitQuietly(interrupted)).isTrue();
+  }
+
+  @Test
+  void resultOfAsync_failingThenSucceeding_shouldRetryWithoutBlocking() {
+    var policy = ResultPolicy.builder()
+            .maxAttempts(3)
+            .backoff(BACKOFF, BACKOFF, 1)
+            .build();
+    var actual = policy.resultOfAsync(failTimes(1)).join();
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(TestValue.TEST_CONTENT);
+    Assertions.assertThat(actual.getAttempts()).hasSize(2);
+  }
+
+  @Test
+  void resultOfAsync_attemptTimeout_shouldRetryTimedOutAttempts() {
+    var policy = ResultPolicy.builder()
+            .maxAttempts(2)
+            .backoff(BACKOFF, BACKOFF, 1)
+            .attemptTimeout(Duration.ofMillis(20))
+            .build();
+    var actual = policy.resultOfAsync(() -> {
+      if (calls.incrementAndGet() == 1) {
+        sleepQuietly(5000);
+      }
+      return TestValue.TEST_CONTENT;
+    }).join();
+    ResultAssertions.assertThat(actual).isValidSuccessResult();
+    Assertions.assertThat(actual.getAttempts().get(0).getMessage())
+            .isEqualTo("Attempt 1 did not complete within PT0.02S");
+  }
+
+  @Test
+  void builder_invalidSettings_shouldThrow() {
+    Assertions.assertThatThrownBy(() -> ResultPolicy.builder().maxAttempts(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    Assertions.assertThatThrownBy(() -> ResultPolicy.builder().jitter(1.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    Assertions.assertThatThrownBy(() -> ResultPolicy.builder().attemptTimeout(Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void builder_nullExecutors_shouldThrow() {
+    Assertions.assertThatThrownBy(() -> ResultPolicy.builder().executor(null))
+            .isInstanceOf(NullPointerException.class);
+    Assertions.assertThatThrownBy(() -> ResultPolicy.builder().scheduler(null))
+            .isInstanceOf(NullPointerException.class);
+  }
+
+  private Supplier<String> failTimes(int failures) {
+    return () -> {
+      if (calls.incrementAndGet() <= failures) {
+        throw new IllegalStateException(TestValue.TEST_MESSAGE);
+      }
+      return TestValue.TEST_CONTENT;
+    };
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static boolean awaitQuietly(CountDownLatch countDownLatch) {
+    try {
+      return countDownLatch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+}
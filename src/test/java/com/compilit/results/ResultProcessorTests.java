@@ -0,0 +1,99 @@
+package com.compilit.results;
+
+import com.compilit.results.assertions.ResultAssertions;
+import com.compilit.results.testutil.TestValue;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+class ResultProcessorTests {
+
+  @Test
+  void merging_shouldPublishOneMergedResultOnCompletion() throws Exception {
+    var processor = ResultProcessor.<Integer>merging();
+    var published = collect(processor);
+    try (var publisher = new SubmissionPublisher<Result<Integer>>()) {
+      publisher.subscribe(processor);
+      for (int index = 0; index < 1000; index++) {
+        publisher.submit(Result.success(index));
+      }
+    }
+    var actual = published.get(5, TimeUnit.SECONDS);
+    Assertions.assertThat(actual).hasSize(1);
+    ResultAssertions.assertThat(actual.get(0)).isValidSuccessResult();
+    Assertions.assertThat(actual.get(0).getContents()).hasSize(1000);
+    Assertions.assertThat(actual.get(0).getContents().get(999)).isEqualTo(999);
+  }
+
+  @Test
+  void merging_withFailure_shouldPublishUnsuccessfulResult() throws Exception {
+    var processor = ResultProcessor.<Integer>merging();
+    var published = collect(processor);
+    try (var publisher = new SubmissionPublisher<Result<Integer>>()) {
+      publisher.subscribe(processor);
+      publisher.submit(Result.success(1));
+      publisher.submit(Result.notFound(TestValue.TEST_MESSAGE));
+    }
+    var actual = published.get(5, TimeUnit.SECONDS);
+    Assertions.assertThat(actual).hasSize(1);
+    ResultAssertions.assertThat(actual.get(0)).isValidUnsuccessfulResult();
+    Assertions.assertThat(actual.get(0).getMessages()).containsExactly(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void windowed_shouldPublishMergedResultPerWindow() throws Exception {
+    var processor = ResultProcessor.<Integer>windowed(100);
+    var published = collect(processor);
+    try (var publisher = new SubmissionPublisher<Result<Integer>>()) {
+      publisher.subscribe(processor);
+      for (int index = 0; index < 1050; index++) {
+        publisher.submit(Result.success(index));
+      }
+    }
+    var actual = published.get(5, TimeUnit.SECONDS);
+    Assertions.assertThat(actual).hasSize(11);
+    Assertions.assertThat(actual.get(0).getContents()).hasSize(100);
+    Assertions.assertThat(actual.get(10).getContents()).hasSize(50);
+    Assertions.assertThat(actual.get(10).getContents().get(0)).isEqualTo(1000);
+  }
+
+  @Test
+  void windowed_nonPositiveWindow_shouldThrow() {
+    Assertions.assertThatThrownBy(() -> ResultProcessor.windowed(0))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static <T> CompletableFuture<List<Result<List<T>>>> collect(ResultProcessor<T> processor) {
+    var published = new CompletableFuture<List<Result<List<T>>>>();
+    var received = new CopyOnWriteArrayList<Result<List<T>>>();
+    processor.subscribe(new Flow.Subscriber<>() {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(Result<List<T>> item) {
+        received.add(item);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        published.completeExceptionally(throwable);
+      }
+
+      @Override
+      public void onComplete() {
+        published.complete(received);
+      }
+    });
+    return published;
+  }
+
+}
@@ -3,10 +3,24 @@ package com.compilit.results;
 import com.compilit.results.assertions.ResultAssertions;
 import com.compilit.results.testutil.TestValue;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.compilit.results.Message.MESSAGE_FORMAT_ERROR;
 import static com.compilit.results.Message.NOTHING_TO_REPORT;
@@ -407,4 +421,973 @@ class ResultTests {
     Assertions.assertThat(actual.getMessage()).isEqualTo(expected);
     System.out.println(actual.getMessage());
   }
+
+  @Test
+  void success_withoutContents_shouldReturnSharedInstance() {
+    Assertions.assertThat(Result.<String>success()).isSameAs(Result.<Integer>success());
+  }
+
+  @Test
+  void notFound_withoutMessage_shouldReturnSharedInstance() {
+    Assertions.assertThat(Result.<String>notFound()).isSameAs(Result.<Integer>notFound());
+  }
+
+  @Test
+  void unprocessable_withoutMessage_shouldReturnSharedInstance() {
+    Assertions.assertThat(Result.<String>unprocessable()).isSameAs(Result.<Integer>unprocessable());
+  }
+
+  @Test
+  void unauthorized_withoutMessage_shouldReturnSharedInstance() {
+    Assertions.assertThat(Result.<String>unauthorized()).isSameAs(Result.<Integer>unauthorized());
+  }
+
+  @Test
+  void sharedInstances_shouldDifferPerStatus() {
+    Assertions.assertThat(Result.success()).isNotSameAs(Result.notFound());
+    Assertions.assertThat(Result.notFound()).isNotSameAs(Result.unprocessable());
+    Assertions.assertThat(Result.unprocessable()).isNotSameAs(Result.unauthorized());
+  }
+
+  @Test
+  void fromResult_withDefaultMessage_shouldReturnSharedInstance() {
+    Assertions.assertThat(Result.<Integer>fromResult(Result.success(TestValue.TEST_CONTENT)))
+            .isSameAs(Result.success());
+    Assertions.assertThat(Result.<Integer>fromResult(Result.notFound())).isSameAs(Result.notFound());
+    Assertions.assertThat(Result.<Integer>fromResult(Result.unprocessable()))
+            .isSameAs(Result.unprocessable());
+    Assertions.assertThat(Result.<Integer>fromResult(Result.unauthorized()))
+            .isSameAs(Result.unauthorized());
+    var errorOccurred = Result.<Integer>fromResult(Result.errorOccurred(NOTHING_TO_REPORT));
+    Assertions.assertThat(Result.<String>fromResult(errorOccurred)).isSameAs(errorOccurred);
+  }
+
+  @Test
+  void fromResult_withCustomMessage_shouldReturnNewInstance() {
+    var result = Result.notFound(TestValue.TEST_MESSAGE);
+    var actual = Result.<Integer>fromResult(result);
+    Assertions.assertThat(actual).isNotSameAs(Result.notFound());
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult()
+            .containsMessage(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void notFound_withMessage_shouldReturnNewInstance() {
+    Assertions.assertThat(Result.notFound(TestValue.TEST_MESSAGE))
+            .isNotSameAs(Result.notFound(TestValue.TEST_MESSAGE));
+  }
+
+  @Test
+  void getMessage_withFormattedMessage_shouldCacheFormattedMessage() {
+    var result = Result.notFound("test %s", "test");
+    var first = result.getMessage();
+    Assertions.assertThat(first).isEqualTo("test test");
+    Assertions.assertThat(result.getMessage()).isSameAs(first);
+  }
+
+  @Test
+  void notFound_withNullMessageAndFormatArgs_shouldReturnDefaultMessage() {
+    var result = Result.notFound(null, "test");
+    Assertions.assertThat(result.getMessage()).isEqualTo(Message.NO_MESSAGE_AVAILABLE);
+  }
+
+  @Test
+  void unauthorized_withInvalidFormatPlaceholders_shouldReturnMessageContainingExceptionMessageOnRead() {
+    var result = Result.unauthorized("test %s, %s", "test");
+    Assertions.assertThat(result.getResultStatus()).isEqualTo(ResultStatus.UNAUTHORIZED);
+    Assertions.assertThat(result.getMessage()).contains(MESSAGE_FORMAT_ERROR);
+  }
+
+  @Test
+  void formatMessage_shouldRenderLikeStringFormat() {
+    var templates = new String[]{
+            "%s", "test %s", "%s test %s", "100%% %s%n", "%%s %s", "test %5s", "%2$s %1$s"
+    };
+    for (var template : templates) {
+      Assertions.assertThat(MessageFormatter.formatMessage(template, "a", "b"))
+              .isEqualTo(String.format(template, "a", "b"));
+    }
+  }
+
+  @Test
+  void formatMessage_withNonStringArguments_shouldRenderLikeStringFormat() {
+    Assertions.assertThat(MessageFormatter.formatMessage("test %s %s", 42, null))
+            .isEqualTo(String.format("test %s %s", 42, null));
+    Assertions.assertThat(MessageFormatter.formatMessage("test %05d", 42))
+            .isEqualTo(String.format("test %05d", 42));
+  }
+
+  @Test
+  void formatMessage_withInvalidTemplate_shouldReturnMessageFormatError() {
+    Assertions.assertThat(MessageFormatter.formatMessage("test %d", "test"))
+            .startsWith(MESSAGE_FORMAT_ERROR);
+    Assertions.assertThat(MessageFormatter.formatMessage("test %", "test"))
+            .startsWith(MESSAGE_FORMAT_ERROR);
+  }
+
+  @Test
+  void messageTemplate_shouldBeCachedPerTemplate() {
+    Assertions.assertThat(MessageTemplate.of("cached %s")).isSameAs(MessageTemplate.of("cached %s"));
+  }
+
+  @Test
+  void messageTemplate_cache_shouldBeBounded() {
+    for (int index = 0; index <= MessageTemplate.MAX_CACHED_TEMPLATES; index++) {
+      MessageTemplate.of("bounded " + index + " %s");
+    }
+    Assertions.assertThat(MessageTemplate.cacheSize())
+            .isLessThanOrEqualTo(MessageTemplate.MAX_CACHED_TEMPLATES);
+  }
+
+  @Test
+  void merge_shouldReturnUnmodifiableListInOrder() {
+    var actual = Result.combine(Result.success(1)).with(Result.success(2)).and(Result.success(3))
+            .merge();
+    Assertions.assertThat(actual.getContents()).containsExactly(1, 2, 3);
+    Assertions.assertThatThrownBy(() -> actual.getContents().add(4))
+            .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void merge_thenAnd_shouldNotChangePreviouslyMergedList() {
+    var combiner = Result.combine(Result.success(1)).with(Result.success(2));
+    var merged = combiner.merge();
+    combiner.and(Result.success(3));
+    Assertions.assertThat(merged.getContents()).containsExactly(1, 2);
+    Assertions.assertThat(combiner.merge().getContents()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void with_calledTwice_shouldReturnIndependentCombiners() {
+    var combiner = Result.combine(Result.success(1));
+    var first = combiner.with(Result.success(2)).merge();
+    var second = combiner.with(Result.success(3)).merge();
+    Assertions.assertThat(first.getContents()).containsExactly(1, 2);
+    Assertions.assertThat(second.getContents()).containsExactly(1, 3);
+  }
+
+  @Test
+  void merge_manyResults_shouldContainAllContents() {
+    var combiner = Result.combine(Result.success(0)).with(Result.success(1));
+    for (int index = 2; index < 100_000; index++) {
+      combiner = combiner.and(Result.success(index));
+    }
+    var actual = combiner.merge().getContents();
+    Assertions.assertThat(actual).hasSize(100_000);
+    Assertions.assertThat(actual.get(99_999)).isEqualTo(99_999);
+  }
+
+  @Test
+  void combineAll_collection_shouldMergeLikeChainedCombiner() {
+    var results = List.of(Result.success(1), Result.success(2), Result.success(3));
+    var expected = Result.combine(results.get(0)).with(results.get(1)).and(results.get(2)).merge();
+    var actual = Result.combineAll(results).merge();
+    ResultAssertions.assertThat(actual).isValidSuccessResult();
+    Assertions.assertThat(actual.getContents()).isEqualTo(expected.getContents());
+  }
+
+  @Test
+  void combineAll_array_shouldSumLikeChainedCombiner() {
+    var actual = Result.combineAll(Result.success(1), Result.<Integer>errorOccurred("I am error"))
+            .sum();
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult().isEmpty();
+    Assertions.assertThat(actual.getMessage()).contains("I am error");
+  }
+
+  @Test
+  void combineAll_iterable_shouldMergeAllResults() {
+    Iterable<Result<Integer>> results = () -> List.of(Result.success(1), Result.success(2))
+            .iterator();
+    var actual = Result.combineAll(results).and(Result.success(3)).merge();
+    Assertions.assertThat(actual.getContents()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void combineAll_empty_shouldReturnSuccessWithEmptyList() {
+    var actual = Result.combineAll(List.<Result<Integer>>of()).merge();
+    ResultAssertions.assertThat(actual).isValidSuccessResult();
+    Assertions.assertThat(actual.getContents()).isEmpty();
+  }
+
+  @Test
+  void merging_shouldCollectResultsInOrder() {
+    var actual = IntStream.range(0, 10_000).boxed()
+            .map(Result::success)
+            .parallel()
+            .collect(Result.merging());
+    ResultAssertions.assertThat(actual).isValidSuccessResult();
+    Assertions.assertThat(actual.getContents())
+            .isEqualTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+  }
+
+  @Test
+  void merging_withFailure_shouldReturnUnsuccessfulResult() {
+    var actual = Stream.of(Result.success(1), Result.<Integer>notFound("I am error"))
+            .collect(Result.merging());
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult().isEmpty();
+    Assertions.assertThat(actual.getMessage()).contains("I am error");
+  }
+
+  @Test
+  void combineAllParallel_shouldMergeLikeSequentialCombiner() {
+    var results = IntStream.range(0, 50_000).boxed()
+            .map(Result::success)
+            .collect(Collectors.toList());
+    var actual = Result.combineAllParallel(results).merge();
+    ResultAssertions.assertThat(actual).isValidSuccessResult();
+    var expected = Result.combineAll(results).merge();
+    Assertions.assertThat(actual.getContents()).isEqualTo(expected.getContents());
+  }
+
+  @Test
+  void combineAllParallel_withFailures_shouldKeepMessageOrder() {
+    var results = IntStream.range(0, 50_000).boxed()
+            .map(index -> index % 1000 == 0
+                    ? Result.<Integer>unprocessable("error %s", String.valueOf(index))
+                    : Result.success(index))
+            .collect(Collectors.toList());
+    var actual = Result.combineAllParallel(results).sum();
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult();
+    var expected = Result.combineAll(results).sum();
+    Assertions.assertThat(actual.getMessage()).isEqualTo(expected.getMessage());
+    Assertions.assertThat(actual.getMessage()).contains("message-50: error 49000");
+  }
+
+  @Test
+  void combineFailFast_shouldOnlyReportFirstFailure() {
+    var actual = Result.combineFailFast(Result.success(1))
+            .with(Result.<Integer>notFound("I am error1"))
+            .and(Result.<Integer>unprocessable("I am error2"))
+            .merge();
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult().isEmpty();
+    Assertions.assertThat(actual.getMessage()).contains("I am error1");
+    Assertions.assertThat(actual.getMessage()).doesNotContain("I am error2");
+  }
+
+  @Test
+  void combineFailFast_allSuccessful_shouldMergeAllContents() {
+    var actual = Result.combineFailFast(Result.success(1))
+            .with(() -> Result.success(2))
+            .and(() -> Result.success(3))
+            .merge();
+    Assertions.assertThat(actual.getContents()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void combineFailFast_afterFailure_shouldNotCallSuppliers() {
+    var calls = new AtomicInteger();
+    Supplier<Result<Integer>> supplier = () -> {
+      calls.incrementAndGet();
+      return Result.success(1);
+    };
+    var actual = Result.combineFailFast(Result.<Integer>unprocessable())
+            .with(supplier)
+            .and(supplier)
+            .sum();
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult();
+    Assertions.assertThat(calls.get()).isEqualTo(0);
+  }
+
+  @Test
+  void combineAllFailFast_shouldStopAtFirstFailure() {
+    var calls = new AtomicInteger();
+    Supplier<Result<Integer>> success = () -> Result.success(calls.incrementAndGet());
+    Supplier<Result<Integer>> failure = () -> {
+      calls.incrementAndGet();
+      return Result.errorOccurred("I am error");
+    };
+    var actual = Result.combineAllFailFast(List.of(success, failure, success, success)).merge();
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult();
+    Assertions.assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  void combine_withSupplier_shouldCallSupplierAfterFailure() {
+    var calls = new AtomicInteger();
+    var actual = Result.combine(Result.<Integer>unprocessable("I am error1"))
+            .with(() -> Result.success(calls.incrementAndGet()))
+            .and(() -> Result.unauthorized("I am error2"))
+            .merge();
+    Assertions.assertThat(calls.get()).isEqualTo(1);
+    Assertions.assertThat(actual.getMessage()).contains("I am error2");
+  }
+
+  @Test
+  void merge_firstFailurePolicy_shouldReturnStatusOfFirstFailure() {
+    var actual = Result.combine(Result.<Integer>unauthorized("I am error1"))
+            .with(Result.errorOccurred("I am error2"))
+            .merge(AggregationPolicy.FIRST_FAILURE);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.UNAUTHORIZED);
+    Assertions.assertThat(actual.getMessage()).contains("I am error2");
+  }
+
+  @Test
+  void sum_mostSeverePolicy_shouldReturnMostSevereStatus() {
+    var actual = Result.combine(Result.<Integer>unauthorized())
+            .with(Result.notFound())
+            .and(Result.unprocessable())
+            .sum(AggregationPolicy.MOST_SEVERE);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+  }
+
+  @Test
+  void merge_defaultPolicy_shouldReturnUnprocessable() {
+    var actual = Result.combine(Result.<Integer>notFound()).with(Result.success(1)).merge();
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+  }
+
+  @Test
+  void merge_allSuccessful_anyPolicy_shouldReturnSuccess() {
+    var combiner = Result.combine(Result.success(1)).with(Result.success(2));
+    for (var aggregationPolicy : AggregationPolicy.values()) {
+      ResultAssertions.assertThat(combiner.merge(aggregationPolicy)).isValidSuccessResult();
+    }
+  }
+
+  @Test
+  void getStatusCounts_shouldCountEveryStatus() {
+    var actual = Result.combine(Result.success(1))
+            .with(Result.notFound())
+            .and(Result.notFound())
+            .and(Result.errorOccurred("I am error"))
+            .getStatusCounts();
+    Assertions.assertThat(actual.get(ResultStatus.SUCCESS)).isEqualTo(1);
+    Assertions.assertThat(actual.get(ResultStatus.NOT_FOUND)).isEqualTo(2);
+    Assertions.assertThat(actual.get(ResultStatus.ERROR_OCCURRED)).isEqualTo(1);
+    Assertions.assertThat(actual.get(ResultStatus.UNAUTHORIZED)).isEqualTo(0);
+  }
+
+  @Test
+  void combineAllParallel_mostSeverePolicy_shouldMatchSequentialCombiner() {
+    var results = IntStream.range(0, 20_000).boxed()
+            .map(index -> index == 5000
+                    ? Result.<Integer>errorOccurred("I am error")
+                    : index % 3000 == 0 ? Result.<Integer>unauthorized() : Result.success(index))
+            .collect(Collectors.toList());
+    var combiner = Result.combineAllParallel(results);
+    Assertions.assertThat(combiner.sum(AggregationPolicy.MOST_SEVERE).getResultStatus())
+            .isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(combiner.sum(AggregationPolicy.FIRST_FAILURE).getResultStatus())
+            .isEqualTo(ResultStatus.UNAUTHORIZED);
+    Assertions.assertThat(combiner.getStatusCounts())
+            .isEqualTo(Result.combineAll(results).getStatusCounts());
+  }
+
+  @Test
+  void getMessages_combined_shouldReturnSeparateMessages() {
+    var actual = Result.combine(Result.<Integer>errorOccurred("I am error1"))
+            .with(Result.success(1))
+            .and(Result.notFound("I am error%s", "2"))
+            .merge();
+    Assertions.assertThat(actual.getMessages()).containsExactly("I am error1", "I am error2");
+    Assertions.assertThat(actual.getMessage()).isEqualTo(Message.UNSUCCESSFUL_RESULT
+            + "message-1: I am error1, message-2: I am error2");
+  }
+
+  @Test
+  void getMessages_singleResult_shouldReturnMessage() {
+    Assertions.assertThat(Result.notFound(TestValue.TEST_MESSAGE).getMessages())
+            .containsExactly(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void limitMessages_shouldCapMessagesAndCountTheRest() {
+    var combiner = Result.combine(Result.<Integer>unprocessable("error 1"))
+            .with(Result.unprocessable("error 2"));
+    for (int index = 3; index <= 100; index++) {
+      combiner.and(Result.unprocessable("error %s", String.valueOf(index)));
+    }
+    var actual = combiner.limitMessages(2).sum();
+    Assertions.assertThat(actual.getMessages()).containsExactly("error 1", "error 2");
+    Assertions.assertThat(actual.getMessage()).isEqualTo(Message.UNSUCCESSFUL_RESULT
+            + "message-1: error 1, message-2: error 2, ...and 98 more");
+  }
+
+  @Test
+  void limitMessages_beforeCombining_shouldOnlyKeepFirstMessages() {
+    var results = IntStream.range(0, 10)
+            .mapToObj(index -> Result.<Integer>unprocessable("error %s", String.valueOf(index)))
+            .collect(Collectors.toList());
+    var actual = Result.combineAll(List.<Result<Integer>>of())
+            .limitMessages(3)
+            .and(results.get(0))
+            .and(results.get(1))
+            .and(results.get(2))
+            .and(results.get(3))
+            .and(results.get(4))
+            .merge();
+    Assertions.assertThat(actual.getMessages()).hasSize(3);
+    Assertions.assertThat(actual.getMessage()).endsWith("...and 2 more");
+  }
+
+  @Test
+  void limitMessages_zero_shouldOnlyCountMessages() {
+    var actual = Result.combine(Result.<Integer>unprocessable("error 1"))
+            .with(Result.unprocessable("error 2"))
+            .limitMessages(0)
+            .merge();
+    Assertions.assertThat(actual.getMessages()).isEmpty();
+    Assertions.assertThat(actual.getMessage()).isEqualTo(Message.UNSUCCESSFUL_RESULT + "...and 2 more");
+  }
+
+  @Test
+  void limitMessages_negative_shouldThrow() {
+    var combiner = Result.combine(Result.success(1)).with(Result.success(2));
+    Assertions.assertThatThrownBy(() -> combiner.limitMessages(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void predicates_shouldNotAllocate() {
+    var threadMXBean = ManagementFactory.getThreadMXBean();
+    Assumptions.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+    var allocationCounter = (com.sun.management.ThreadMXBean) threadMXBean;
+    Assumptions.assumeTrue(allocationCounter.isThreadAllocatedMemorySupported());
+    allocationCounter.setThreadAllocatedMemoryEnabled(true);
+    var results = List.of(Result.success(TestValue.TEST_CONTENT), Result.<String>success(),
+            Result.<String>unprocessable(TestValue.TEST_MESSAGE));
+    var threadId = Thread.currentThread().getId();
+    var calls = 100_000;
+    var matches = countPredicateMatches(results, calls);
+    var before = allocationCounter.getThreadAllocatedBytes(threadId);
+    matches += countPredicateMatches(results, calls);
+    var allocated = allocationCounter.getThreadAllocatedBytes(threadId) - before;
+    Assertions.assertThat(matches).isGreaterThan(0);
+    Assertions.assertThat(allocated).isLessThan((long) calls);
+  }
+
+  private static int countPredicateMatches(List<Result<String>> results, int calls) {
+    var matches = 0;
+    for (int index = 0; index < calls; index++) {
+      var result = results.get(index % results.size());
+      if (result.hasContents()) {
+        matches++;
+      }
+      if (result.isEmpty()) {
+        matches++;
+      }
+      if (result.isSuccessful()) {
+        matches++;
+      }
+      if (result.isUnsuccessful()) {
+        matches++;
+      }
+      if (result.isSuccessfulWithContents()) {
+        matches++;
+      }
+    }
+    return matches;
+  }
+
+  @Test
+  void map_success_shouldMapContents() {
+    var actual = Result.success(TestValue.TEST_CONTENT).map(String::length);
+    ResultAssertions.assertThat(actual).isValidSuccessResult()
+            .containsContent(TestValue.TEST_CONTENT.length());
+  }
+
+  @Test
+  void map_unsuccessful_shouldReturnSameInstanceWithoutCallingMapper() {
+    var result = Result.<String>notFound(TestValue.TEST_MESSAGE);
+    var calls = new AtomicInteger();
+    var actual = result.map(contents -> calls.incrementAndGet());
+    Assertions.assertThat(actual).isSameAs(result);
+    Assertions.assertThat(calls.get()).isEqualTo(0);
+  }
+
+  @Test
+  void flatMap_success_shouldReturnMappedResult() {
+    var next = Result.<Integer>unauthorized(TestValue.TEST_MESSAGE);
+    var actual = Result.success(TestValue.TEST_CONTENT).flatMap(contents -> next);
+    Assertions.assertThat(actual).isSameAs(next);
+  }
+
+  @Test
+  void flatMap_unsuccessful_shouldReturnSameInstance() {
+    var result = Result.<String>errorOccurred(TestValue.TEST_MESSAGE);
+    Assertions.assertThat(result.flatMap(contents -> Result.success(1))).isSameAs(result);
+  }
+
+  @Test
+  void filter_shouldReturnUnprocessableIfPredicateFails() {
+    var result = Result.success(TestValue.TEST_CONTENT);
+    Assertions.assertThat(result.filter(String::isEmpty).getResultStatus())
+            .isEqualTo(ResultStatus.UNPROCESSABLE);
+    Assertions.assertThat(result.filter(contents -> !contents.isEmpty())).isSameAs(result);
+    ResultAssertions.assertThat(result.filter(String::isEmpty, "%s is not empty", "contents"))
+            .isValidUnsuccessfulResult()
+            .containsMessage("contents is not empty");
+  }
+
+  @Test
+  void recover_unsuccessful_shouldReturnSuccessWithRecoveredContents() {
+    var actual = Result.<String>notFound(TestValue.TEST_MESSAGE).recover(Result::getMessage);
+    ResultAssertions.assertThat(actual).isValidSuccessResult()
+            .containsContent(TestValue.TEST_MESSAGE);
+    var success = Result.success(TestValue.TEST_CONTENT);
+    Assertions.assertThat(success.recover(result -> "other")).isSameAs(success);
+  }
+
+  @Test
+  void recoverWith_unsuccessful_shouldReturnRecoveryResult() {
+    var recovered = Result.success(TestValue.TEST_CONTENT);
+    var actual = Result.<String>unprocessable().recoverWith(result -> recovered);
+    Assertions.assertThat(actual).isSameAs(recovered);
+  }
+
+  @Test
+  void fold_shouldApplyMatchingFunction() {
+    Assertions.assertThat(Result.success(TestValue.TEST_CONTENT).fold(String::length, result -> -1))
+            .isEqualTo(TestValue.TEST_CONTENT.length());
+    Assertions.assertThat(Result.<String>notFound().fold(String::length, result -> -1))
+            .isEqualTo(-1);
+  }
+
+  @Test
+  void resultOf_throwingSupplier_shouldKeepExceptionAsCause() {
+    var exception = new IllegalStateException(TestValue.TEST_MESSAGE);
+    var actual = Result.<String>resultOf(() -> {
+      throw exception;
+    });
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult()
+            .containsMessage(TestValue.TEST_MESSAGE);
+    Assertions.assertThat(actual.getCause()).isSameAs(exception);
+  }
+
+  @Test
+  void resultOf_throwingRunnableWithoutMessage_shouldReturnDefaultMessage() {
+    var exception = new IllegalStateException();
+    Result<String> actual = Result.resultOf((Runnable) () -> {
+      throw exception;
+    });
+    Assertions.assertThat(actual.getMessage()).isEqualTo(Message.NO_MESSAGE_AVAILABLE);
+    Assertions.assertThat(actual.getCause()).isSameAs(exception);
+  }
+
+  @Test
+  void fromException_shouldReturnErrorOccurredResultWithCause() {
+    var exception = new ResultException(TestValue.TEST_MESSAGE);
+    var actual = Result.fromException(exception);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+    Assertions.assertThat(actual.getCause()).isSameAs(exception);
+  }
+
+  @Test
+  void getCause_withoutException_shouldReturnNull() {
+    Assertions.assertThat(Result.success().getCause()).isNull();
+    Assertions.assertThat(Result.notFound(TestValue.TEST_MESSAGE).getCause()).isNull();
+  }
+
+  @Test
+  void fromResult_errorOccurredWithCause_shouldKeepCause() {
+    var exception = new IllegalStateException();
+    var result = Result.<Integer>fromException(exception);
+    var actual = Result.<String>fromResult(result);
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult();
+    Assertions.assertThat(actual).isNotSameAs(Result.errorOccurred(NOTHING_TO_REPORT));
+    Assertions.assertThat(actual.getMessage()).isEqualTo(result.getMessage());
+    Assertions.assertThat(actual.getCause()).isSameAs(exception);
+  }
+
+  @Test
+  void fromResult_errorOccurredWithCauseAndMessage_shouldKeepCause() {
+    var exception = new IllegalStateException(TestValue.TEST_MESSAGE);
+    var result = Result.<Integer>fromException(exception);
+    var actual = Result.<String>fromResult(result, TestValue.TEST_CONTENT);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getCause()).isSameAs(exception);
+    var withMessage = Result.<String>fromResult(result, "other %s", "message");
+    Assertions.assertThat(withMessage.getMessage()).isEqualTo("other message");
+    Assertions.assertThat(withMessage.getCause()).isSameAs(exception);
+  }
+
+  @Test
+  void resultException_shouldNotHaveStackTrace() {
+    var cause = new IllegalStateException();
+    var exception = new ResultException(TestValue.TEST_MESSAGE, cause);
+    Assertions.assertThat(exception.getStackTrace().length).isEqualTo(0);
+    Assertions.assertThat(exception.getCause()).isSameAs(cause);
+  }
+
+  @Test
+  void allOf_shouldMergeResultsInTaskOrder() {
+    List<Callable<Result<Integer>>> tasks = List.of(
+            () -> {
+              Thread.sleep(50);
+              return Result.success(1);
+            },
+            () -> Result.success(2),
+            () -> Result.success(3));
+    var actual = Result.allOf(tasks);
+    ResultAssertions.assertThat(actual).isValidSuccessResult();
+    Assertions.assertThat(actual.getContents()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void allOf_withThrowingTask_shouldReturnErrorOccurred() {
+    List<Callable<Result<Integer>>> tasks = List.of(
+            () -> Result.success(1),
+            () -> {
+              throw new IllegalStateException(TestValue.TEST_MESSAGE);
+            });
+    var actual = Result.allOf(tasks);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessages()).containsExactly(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void allOf_withTimeout_shouldReturnErrorOccurredForUnfinishedTasks() {
+    List<Callable<Result<Integer>>> tasks = List.of(
+            () -> Result.success(1),
+            () -> {
+              Thread.sleep(10_000);
+              return Result.success(2);
+            });
+    var actual = Result.allOf(tasks, Duration.ofMillis(100), false);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessage()).contains("Task 1 did not complete within PT0.1S");
+  }
+
+  @Test
+  void allOf_cancelOnFailure_shouldCancelSiblings() {
+    var started = new CountDownLatch(1);
+    var interrupted = new CountDownLatch(1);
+    List<Callable<Result<Integer>>> tasks = List.of(
+            () -> {
+              started.countDown();
+              try {
+                Thread.sleep(10_000);
+              } catch (InterruptedException exception) {
+                interrupted.countDown();
+              }
+              return Result.success(1);
+            },
+            () -> {
+              started.await();
+              return Result.notFound(TestValue.TEST_MESSAGE);
+            });
+    var actual = Result.allOf(tasks, Duration.ofSeconds(5), true);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    Assertions.assertThat(actual.getMessages()).containsExactly(TestValue.TEST_MESSAGE);
+    Assertions.assertThat(awaitQuietly(interrupted)).isTrue();
+  }
+
+  @Test
+  void anyOf_shouldReturnFirstSuccessfulResult() {
+    List<Callable<Result<Integer>>> tasks = List.of(
+            () -> Result.unauthorized(),
+            () -> {
+              Thread.sleep(10_000);
+              return Result.success(1);
+            },
+            () -> Result.success(2));
+    var actual = Result.anyOf(tasks, Duration.ofSeconds(5));
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(2);
+  }
+
+  @Test
+  void anyOf_withoutSuccess_shouldReturnMostSevereStatus() {
+    List<Callable<Result<Integer>>> tasks = List.of(
+            () -> Result.unauthorized(TestValue.TEST_MESSAGE),
+            () -> Result.notFound(TestValue.TEST_MESSAGE));
+    var actual = Result.anyOf(tasks);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    Assertions.assertThat(actual.getMessages()).hasSize(2);
+  }
+
+  @Test
+  void anyOf_withoutTasks_shouldReturnUnprocessable() {
+    var actual = Result.<Integer>anyOf(List.of());
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+    Assertions.assertThat(actual.getMessage()).isEqualTo(Message.NO_TASKS);
+  }
+
+  @Test
+  void allOf_taskThrowingError_shouldReturnErrorOccurredResult() {
+    var error = new AssertionError(TestValue.TEST_MESSAGE);
+    List<Callable<Result<Integer>>> tasks = List.of(
+            () -> Result.success(1),
+            () -> {
+              throw error;
+            });
+    var actual = Result.allOf(tasks);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessages()).containsExactly(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void reduce_allSuccessful_shouldFoldContents() {
+    var actual = Result.combineAll(Result.success(1), Result.success(2))
+            .reduce(0, Integer::sum)
+            .and(Result.success(3))
+            .merge();
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(6);
+  }
+
+  @Test
+  void reduce_unsuccessful_shouldReturnAggregatedFailure() {
+    var actual = Result.combine(Result.success(1))
+            .with(Result.notFound(TestValue.TEST_MESSAGE))
+            .reduce(0, Integer::sum)
+            .and(Result.errorOccurred(TestValue.TEST_MESSAGE))
+            .merge(AggregationPolicy.MOST_SEVERE);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessages()).hasSize(2);
+  }
+
+  @Test
+  void reduce_afterLimitMessages_shouldKeepLimit() {
+    var actual = Result.combine(Result.<Integer>notFound("first"))
+            .with(Result.notFound("second"))
+            .limitMessages(1)
+            .reduce(0, Integer::sum)
+            .and(Result.notFound("third"))
+            .merge();
+    Assertions.assertThat(actual.getMessages()).containsExactly("first");
+    Assertions.assertThat(actual.getMessage()).endsWith("...and 2 more");
+  }
+
+  @Test
+  void collect_afterLimitMessages_shouldKeepLimit() {
+    var actual = Result.combine(Result.<Integer>notFound("first"))
+            .with(Result.notFound("second"))
+            .limitMessages(1)
+            .collect(Collectors.toList())
+            .and(Result.notFound("third"))
+            .merge();
+    Assertions.assertThat(actual.getMessages()).containsExactly("first");
+    Assertions.assertThat(actual.getMessage()).endsWith("...and 2 more");
+  }
+
+  @Test
+  void collect_shouldFoldContentsWithCollector() {
+    var actual = Result.combine(Result.success("a"))
+            .with(Result.success("b"))
+            .collect(Collectors.joining(","))
+            .and(Result.success("c"))
+            .merge();
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent("a,b,c");
+  }
+
+  @Test
+  void collect_failFast_shouldNotCallRemainingSuppliers() {
+    var calls = new AtomicInteger();
+    var actual = Result.combineFailFast(Result.success(1))
+            .with(Result.notFound())
+            .collect(Collectors.summingInt(Integer::intValue))
+            .and(() -> {
+              calls.incrementAndGet();
+              return Result.success(2);
+            })
+            .merge(AggregationPolicy.FIRST_FAILURE);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    Assertions.assertThat(calls.get()).isZero();
+  }
+
+  @Test
+  void collect_combinedAfterMerge_shouldNotChangeMergedContents() {
+    var combiner = Result.combine(Result.success(1))
+            .with(Result.success(2))
+            .collect(Collectors.toList());
+    var first = combiner.merge();
+    var second = combiner.and(Result.success(3)).merge();
+    Assertions.assertThat(first.getContents()).containsExactly(1, 2);
+    Assertions.assertThat(second.getContents()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void collect_toSetCombinedAfterMerge_shouldNotChangeMergedContents() {
+    var combiner = Result.combine(Result.success(1))
+            .with(Result.success(2))
+            .collect(Collectors.toSet());
+    var first = combiner.merge();
+    var second = combiner.and(Result.success(3)).and(Result.success(4)).merge();
+    Assertions.assertThat(first.getContents()).isEqualTo(Set.of(1, 2));
+    Assertions.assertThat(second.getContents()).isEqualTo(Set.of(1, 2, 3, 4));
+  }
+
+  @Test
+  void collect_toMapCombinedAfterMerge_shouldNotChangeMergedContents() {
+    var combiner = Result.combine(Result.success("a"))
+            .with(Result.success("bb"))
+            .collect(Collectors.toMap(Function.identity(), String::length));
+    var first = combiner.merge();
+    var second = combiner.and(Result.success("ccc")).merge();
+    Assertions.assertThat(first.getContents()).isEqualTo(Map.of("a", 1, "bb", 2));
+    Assertions.assertThat(second.getContents()).isEqualTo(Map.of("a", 1, "bb", 2, "ccc", 3));
+  }
+
+  @Test
+  void reduce_otherCombinerImplementation_shouldFoldMergedContents() {
+    var delegate = Result.combine(Result.success(1)).with(Result.success(2));
+    ContinuedResultCombiner<Integer> combiner = new ContinuedResultCombiner<>() {
+      @Override
+      public ContinuedResultCombiner<Integer> and(Result<Integer> result) {
+        delegate.and(result);
+        return this;
+      }
+
+      @Override
+      public Result<List<Integer>> merge() {
+        return delegate.merge();
+      }
+
+      @Override
+      public Result<Integer> sum() {
+        return delegate.sum();
+      }
+    };
+    var actual = combiner.reduce(0, Integer::sum).and(Result.success(3)).merge();
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(6);
+    var failed = combiner.collect(Collectors.counting())
+            .and(Result.notFound(TestValue.TEST_MESSAGE))
+            .merge();
+    Assertions.assertThat(failed.getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+  }
+
+  @Test
+  void merging_withDownstream_parallelStream_shouldFoldAllContents() {
+    var actual = IntStream.range(0, 10_000).boxed()
+            .map(Result::success)
+            .parallel()
+            .collect(Result.merging(Collectors.summingLong(Integer::longValue)));
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(49_995_000L);
+  }
+
+  @Test
+  void merging_withDownstream_unsuccessful_shouldReturnUnprocessable() {
+    var actual = Stream.of(Result.success(1), Result.<Integer>notFound(TestValue.TEST_MESSAGE))
+            .collect(Result.merging(Collectors.counting()));
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+  }
+
+  @Test
+  void notFound_withNull_shouldReturnDefaultMessage() {
+    Result<String> actual = Result.notFound(null);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    Assertions.assertThat(actual.getMessage()).isEqualTo(Message.NO_MESSAGE_AVAILABLE);
+    Assertions.assertThat(Result.unprocessable(null).getMessage())
+            .isEqualTo(Message.NO_MESSAGE_AVAILABLE);
+    Assertions.assertThat(Result.unauthorized(null).getMessage())
+            .isEqualTo(Message.NO_MESSAGE_AVAILABLE);
+    Assertions.assertThat(Result.errorOccurred(null).getMessage())
+            .isEqualTo(Message.NO_MESSAGE_AVAILABLE);
+  }
+
+  @Test
+  void notFound_withMessageCode_shouldReturnSharedInstance() {
+    var messageCode = MessageCode.of("results.test.not-found", TestValue.TEST_MESSAGE);
+    Result<String> actual = Result.notFound(messageCode);
+    ResultAssertions.assertThat(actual).isValidUnsuccessfulResult()
+            .containsMessage(TestValue.TEST_MESSAGE);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    Assertions.assertThat(Result.<Integer>notFound(messageCode)).isSameAs(actual);
+  }
+
+  @Test
+  void messageCode_sameCodeDifferentStatus_shouldReturnDifferentInstances() {
+    var messageCode = MessageCode.of("results.test.per-status", TestValue.TEST_MESSAGE);
+    var unprocessable = Result.unprocessable(messageCode);
+    var errorOccurred = Result.errorOccurred(messageCode);
+    Assertions.assertThat(unprocessable.getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+    Assertions.assertThat(errorOccurred.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(Result.unauthorized(messageCode).getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void messageCode_shouldBeInterned() {
+    var messageCode = MessageCode.of("results.test.interned", "%s is taken literally");
+    Assertions.assertThat(MessageCode.of("results.test.interned", "%s is taken literally"))
+            .isSameAs(messageCode);
+    Assertions.assertThat(MessageCode.forCode("results.test.interned")).contains(messageCode);
+    Assertions.assertThat(Result.notFound(messageCode).getMessage()).isEqualTo("%s is taken literally");
+  }
+
+  @Test
+  void messageCode_redefinedWithOtherMessage_shouldThrow() {
+    MessageCode.of("results.test.redefined", TestValue.TEST_MESSAGE);
+    Assertions.assertThatThrownBy(() -> MessageCode.of("results.test.redefined", "other"))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void lazy_shouldNotEvaluateUntilFirstAccess() {
+    var calls = new AtomicInteger();
+    var actual = Result.lazy(() -> {
+      calls.incrementAndGet();
+      return Result.success(TestValue.TEST_CONTENT);
+    });
+    Assertions.assertThat(calls.get()).isZero();
+    ResultAssertions.assertThat(actual).isValidSuccessResult().containsContent(TestValue.TEST_CONTENT);
+    actual.getResultStatus();
+    Assertions.assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  void lazy_concurrentFirstAccess_shouldEvaluateOnce() throws Exception {
+    var calls = new AtomicInteger();
+    Result<Integer> actual = Result.lazy(() -> Result.success(calls.incrementAndGet()));
+    var start = new CountDownLatch(1);
+    var threads = IntStream.range(0, 8)
+            .mapToObj(index -> new Thread(() -> {
+              awaitQuietly(start);
+              actual.isSuccessful();
+            }))
+            .collect(Collectors.toList());
+    threads.forEach(Thread::start);
+    start.countDown();
+    for (var thread : threads) {
+      thread.join(5000);
+    }
+    Assertions.assertThat(calls.get()).isEqualTo(1);
+    Assertions.assertThat(actual.getContents()).isEqualTo(1);
+  }
+
+  @Test
+  void lazy_throwingSupplier_shouldReturnErrorOccurredWithCause() {
+    var exception = new IllegalStateException(TestValue.TEST_MESSAGE);
+    Result<String> actual = Result.lazy(() -> {
+      throw exception;
+    });
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getCause()).isSameAs(exception);
+  }
+
+  @Test
+  void lazy_supplierReturnsNull_shouldReturnErrorOccurredResult() {
+    Result<String> actual = Result.lazy(() -> null);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    Assertions.assertThat(actual.getMessage()).isEqualTo(Message.LAZY_WITHOUT_RESULT);
+  }
+
+  @Test
+  void lazy_afterFailureInFailFastCombiner_shouldNeverEvaluate() {
+    var calls = new AtomicInteger();
+    var actual = Result.combineFailFast(Result.<String>notFound())
+            .with(Result.lazy(() -> {
+              calls.incrementAndGet();
+              return Result.success(TestValue.TEST_CONTENT);
+            }))
+            .merge(AggregationPolicy.FIRST_FAILURE);
+    Assertions.assertThat(actual.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    Assertions.assertThat(calls.get()).isZero();
+  }
+
+  @Test
+  void notFound_formatArgumentsChangedAfterCreation_shouldKeepOriginalMessage() {
+    var formatArguments = new String[]{"42"};
+    var actual = Result.notFound("Resource %s was not found", formatArguments);
+    formatArguments[0] = "43";
+    Assertions.assertThat(actual.getMessage()).isEqualTo("Resource 42 was not found");
+  }
+
+  private static boolean awaitQuietly(CountDownLatch countDownLatch) {
+    try {
+      return countDownLatch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
 }